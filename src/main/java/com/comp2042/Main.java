@@ -2,7 +2,14 @@ package com.comp2042;
 
 import com.comp2042.ui.controllers.GameController;
 import com.comp2042.ui.controllers.GuiController;
+import com.comp2042.ui.controllers.SpectatorController;
 import com.comp2042.ui.controllers.TwoPlayerGuiController;
+import com.comp2042.utils.PowerManager;
+import com.comp2042.ui.panels.ScalingPane;
+import com.comp2042.ui.renderers.SpriteAtlas;
+import com.comp2042.utils.GameConstants;
+import com.comp2042.utils.QualityGovernor;
+import com.comp2042.utils.ScaleMode;
 
 import java.net.URL;
 import java.util.ResourceBundle;
@@ -11,23 +18,34 @@ import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
-import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 
 public class Main extends Application {
 
     private Stage primaryStage;
-    private Scene scene;
+    private ScalingPane viewport;
 
     @Override
     public void start(Stage primaryStage) throws Exception {
         this.primaryStage = primaryStage;
         primaryStage.setTitle("TetrisJFX");
 
-        // Create scene once with 800x600 to accommodate both game modes
-        scene = new Scene(new Pane(), 800, 600);
+        // Create scene once; both game modes are laid out in the same logical size
+        // and scaled to the window, with black bars where the aspect ratio differs
+        viewport = new ScalingPane(ScaleMode.fromSystemProperty());
+        Scene scene = new Scene(viewport, GameConstants.SCENE_WIDTH, GameConstants.SCENE_HEIGHT, Color.BLACK);
         primaryStage.setScene(scene);
 
+        // Render the bricks of every colour theme now, so switching themes in a game costs nothing
+        SpriteAtlas.buildAll();
+
+        // Start watching frame times so effects are dropped on slow machines
+        QualityGovernor.start();
+
+        // Throttle frame loops while the window is in the background or minimized
+        PowerManager.watch(primaryStage);
+
         // Load single player mode initially
         loadSinglePlayerMode();
         primaryStage.show();
@@ -40,8 +58,8 @@ public class Main extends Application {
         Parent root = fxmlLoader.load();
         GuiController c = fxmlLoader.getController();
 
-        // Swap the root node (keeps same scene)
-        scene.setRoot(root);
+        // Swap the layout (keeps same scene and scaling)
+        viewport.setContent(root);
 
         new GameController(c);
 
@@ -53,6 +71,15 @@ public class Main extends Application {
                 e.printStackTrace();
             }
         });
+
+        // Wire up spectate button to the wall of bot games
+        c.setSpectateSwitch(() -> {
+            try {
+                loadSpectatorMode();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        });
     }
 
     public void loadTwoPlayerMode() throws Exception {
@@ -62,8 +89,8 @@ public class Main extends Application {
         Parent root = fxmlLoader.load();
         TwoPlayerGuiController c = fxmlLoader.getController();
 
-        // Swap the root node (keeps same scene)
-        scene.setRoot(root);
+        // Swap the layout (keeps same scene and scaling)
+        viewport.setContent(root);
 
         // Wire up home button to switch back to single player mode
         c.setModeSwitch(() -> {
@@ -75,6 +102,27 @@ public class Main extends Application {
         });
     }
 
+    public void loadSpectatorMode() throws Exception {
+        URL location = getClass().getClassLoader().getResource("spectatorLayout.fxml");
+        ResourceBundle resources = null;
+        FXMLLoader fxmlLoader = new FXMLLoader(location, resources);
+        Parent root = fxmlLoader.load();
+        SpectatorController c = fxmlLoader.getController();
+
+        // Swap the layout (keeps same scene and scaling)
+        viewport.setContent(root);
+        root.requestFocus();
+
+        // Wire up escape to switch back to single player mode
+        c.setModeSwitch(() -> {
+            try {
+                loadSinglePlayerMode();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        });
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
@@ -0,0 +1,127 @@
+package com.comp2042.game.clock;
+
+/**
+ * Fixed-timestep clock that drives the game simulation.
+ * Elapsed time is accumulated and converted into whole ticks of
+ * {@link #NANOS_PER_TICK}, so the simulation advances at the same rate no matter
+ * how often or how regularly the time source reports. Subclasses decide where
+ * time comes from: {@link System#nanoTime()}, or a virtual time for simulations.
+ */
+public abstract class GameClock {
+
+    /** Simulation rate in ticks per second */
+    public static final int TICKS_PER_SECOND = 60;
+
+    /** Length of one tick in nanoseconds */
+    public static final long NANOS_PER_TICK = 1_000_000_000L / TICKS_PER_SECOND;
+
+    // Upper bound on ticks run for one time update, so a long stall does not
+    // make the game fast-forward through many gravity steps at once
+    private static final int MAX_CATCH_UP_TICKS = 10;
+
+    private static final TickListener[] NO_LISTENERS = new TickListener[0];
+
+    private TickListener[] listeners = NO_LISTENERS;
+    private boolean running;
+    private long lastTime;
+    private boolean hasLastTime;
+    private long accumulated;
+    private long tickCount;
+
+    /**
+     * Registers a listener to be called on every tick, after the listeners already registered.
+     */
+    public void addListener(TickListener listener) {
+        TickListener[] updated = new TickListener[listeners.length + 1];
+        System.arraycopy(listeners, 0, updated, 0, listeners.length);
+        updated[listeners.length] = listener;
+        listeners = updated;
+    }
+
+    /**
+     * Starts or resumes the clock. Time that passed while the clock was stopped is not simulated.
+     */
+    public void start() {
+        running = true;
+        hasLastTime = false;
+    }
+
+    /**
+     * Stops the clock. Any partial tick is kept and completed after the clock is resumed.
+     */
+    public void stop() {
+        running = false;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * @return The number of ticks simulated since this clock was created
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Gets when the most recent tick was due, on the time base passed to {@link #advanceTo(long)}.
+     * Only meaningful while the clock is running and has been advanced at least once.
+     */
+    public long getLastTickNanos() {
+        return lastTime - accumulated;
+    }
+
+    /**
+     * @return How long until the next tick is due, assuming time keeps being reported
+     */
+    public long getNanosUntilNextTick() {
+        return NANOS_PER_TICK - accumulated;
+    }
+
+    /**
+     * Catches the clock up with its time source, running every tick that is now due.
+     * Called by the loop that owns the clock, e.g. once per round of a
+     * {@link com.comp2042.game.simulation.GameSimulation}.
+     */
+    public abstract void update();
+
+    /**
+     * Reports the current time of the time source and runs every tick that is now due.
+     *
+     * @param nowNanos Current time in nanoseconds, on any monotonic time base
+     */
+    protected void advanceTo(long nowNanos) {
+        if (!running) {
+            return;
+        }
+        if (!hasLastTime) {
+            lastTime = nowNanos;
+            hasLastTime = true;
+            return;
+        }
+        accumulated += nowNanos - lastTime;
+        lastTime = nowNanos;
+
+        int ticks = 0;
+        while (running && accumulated >= NANOS_PER_TICK) {
+            accumulated -= NANOS_PER_TICK;
+            tick();
+            if (++ticks == MAX_CATCH_UP_TICKS) {
+                accumulated = 0;
+                break;
+            }
+        }
+    }
+
+    /**
+     * Runs a single tick immediately.
+     */
+    protected void tick() {
+        tickCount++;
+        TickListener[] current = listeners;
+        for (TickListener listener : current) {
+            listener.onTick();
+        }
+    }
+}
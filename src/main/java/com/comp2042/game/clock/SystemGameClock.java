@@ -0,0 +1,12 @@
+package com.comp2042.game.clock;
+
+/**
+ * Game clock that follows {@link System#nanoTime()}, for games played in real time.
+ */
+public class SystemGameClock extends GameClock {
+
+    @Override
+    public void update() {
+        advanceTo(System.nanoTime());
+    }
+}
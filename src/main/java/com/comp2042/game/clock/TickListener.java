@@ -0,0 +1,13 @@
+package com.comp2042.game.clock;
+
+/**
+ * Receives the fixed-rate simulation ticks of a {@link GameClock}.
+ */
+@FunctionalInterface
+public interface TickListener {
+
+    /**
+     * Called once per simulation tick, {@link GameClock#TICKS_PER_SECOND} times per second of game time.
+     */
+    void onTick();
+}
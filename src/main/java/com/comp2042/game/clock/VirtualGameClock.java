@@ -0,0 +1,45 @@
+package com.comp2042.game.clock;
+
+/**
+ * Game clock driven by explicit calls instead of wall-clock time.
+ * Ticks run as fast as the listeners allow, so simulations and bots can play
+ * full games through the same tick logic as the UI in a fraction of the time.
+ * Each tick moves a virtual time forward by {@link #NANOS_PER_TICK}, which stands
+ * in for {@link System#nanoTime()} wherever the game needs a time, e.g. for snapshots.
+ */
+public class VirtualGameClock extends GameClock {
+
+    private long nanoTime;
+
+    /**
+     * Does nothing, virtual time only moves through {@link #advanceTicks(long)}.
+     */
+    @Override
+    public void update() {
+        // No time source to catch up with
+    }
+
+    /**
+     * Runs the given number of ticks immediately, stopping early if the clock is stopped.
+     *
+     * @param ticks Number of ticks to run
+     */
+    public void advanceTicks(long ticks) {
+        for (long i = 0; i < ticks && isRunning(); i++) {
+            nanoTime += NANOS_PER_TICK;
+            tick();
+        }
+    }
+
+    /**
+     * @return The virtual time in nanoseconds, the time of the last tick
+     */
+    public long getNanoTime() {
+        return nanoTime;
+    }
+
+    @Override
+    public long getLastTickNanos() {
+        return nanoTime;
+    }
+}
@@ -1,28 +1,79 @@
 package com.comp2042.game.events;
 
-import com.comp2042.utils.MatrixOperations;
+import java.util.Arrays;
 
+/**
+ * Result of landing a brick: how many rows were removed, which ones and the score they earned.
+ * The board after the clear is read through {@link #cell(int, int)}, which looks at the
+ * board's own storage instead of a copy. It shows the board as it was right after the
+ * landing only until the board changes again, so it must be read on the thread that
+ * owns the board before the next move. Boards reuse their results and the array of
+ * removed rows, so the same applies to {@link #getClearedRow(int)}.
+ */
 public final class ClearRow {
 
+    private static final int[] NO_ROWS = new int[0];
+
     private final int linesRemoved;
     private final int[][] newMatrix;
     private final int scoreBonus;
+    private final int[] clearedRows;
 
     public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus) {
+        this(linesRemoved, newMatrix, scoreBonus, NO_ROWS);
+    }
+
+    /**
+     * @param newMatrix The board's matrix after the clear, shared rather than copied
+     * @param clearedRows Indices of the removed rows in ascending order, as they were before the clear,
+     *                    shared rather than copied; may be longer than {@code linesRemoved}
+     */
+    public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus, int[] clearedRows) {
         this.linesRemoved = linesRemoved;
         this.newMatrix = newMatrix;
         this.scoreBonus = scoreBonus;
+        this.clearedRows = clearedRows;
     }
 
     public int getLinesRemoved() {
         return linesRemoved;
     }
 
-    public int[][] getNewMatrix() {
-        return MatrixOperations.copy(newMatrix);
+    /**
+     * Gets one cell of the board after the clear.
+     *
+     * @return The brick id of the cell, or 0 if it is empty
+     */
+    public int cell(int row, int col) {
+        return newMatrix[row][col];
+    }
+
+    public int getRowCount() {
+        return newMatrix.length;
+    }
+
+    public int getColumnCount() {
+        return newMatrix[0].length;
     }
 
     public int getScoreBonus() {
         return scoreBonus;
     }
+
+    /**
+     * Gets the board index of one removed row without copying the index array.
+     *
+     * @param index Position in the list of removed rows (0 to linesRemoved - 1)
+     * @return The row index before the clear
+     */
+    public int getClearedRow(int index) {
+        return clearedRows[index];
+    }
+
+    /**
+     * @return A copy of the removed row indices in ascending order
+     */
+    public int[] getClearedRows() {
+        return Arrays.copyOf(clearedRows, linesRemoved);
+    }
 }
@@ -1,8 +1,11 @@
 package com.comp2042.game.events;
-import com.comp2042.game.events.ClearRow;
 
 import com.comp2042.game.models.ViewData;
 
+/**
+ * Result of moving a brick down: the landing result, or null if the brick only moved,
+ * and the view of the brick afterwards. Both are passed on as they are, without copies.
+ */
 public final class DownData {
     private final ClearRow clearRow;
     private final ViewData viewData;
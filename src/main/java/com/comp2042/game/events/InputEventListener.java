@@ -1,18 +1,20 @@
 package com.comp2042.game.events;
 
-import com.comp2042.game.models.ViewData;
-
+/**
+ * Receives player input. Results are not returned directly: the game state is
+ * updated asynchronously and picked up by the view on its next frame.
+ */
 public interface InputEventListener {
 
-    DownData onDownEvent(MoveEvent event);
+    void onDownEvent(MoveEvent event);
 
-    ViewData onLeftEvent(MoveEvent event);
+    void onLeftEvent(MoveEvent event);
 
-    ViewData onRightEvent(MoveEvent event);
+    void onRightEvent(MoveEvent event);
 
-    ViewData onRotateEvent(MoveEvent event);
+    void onRotateEvent(MoveEvent event);
 
-    DownData onHardDropEvent();
+    void onHardDropEvent();
 
     void createNewGame();
 }
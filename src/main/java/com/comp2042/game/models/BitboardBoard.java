@@ -0,0 +1,313 @@
+package com.comp2042.game.models;
+
+import com.comp2042.game.events.ClearRow;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.bricks.RandomizerType;
+import com.comp2042.logic.rotation.BrickRotator;
+import com.comp2042.logic.rotation.RotationDirection;
+import com.comp2042.logic.rotation.RotationSystem;
+
+import java.util.Arrays;
+
+/**
+ * Board implementation that stores each row of the playfield as a bitmask.
+ * Collision, merge and full-row detection work on whole rows with shift/AND operations,
+ * using the precomputed row masks of each brick rotation. A separate color plane is kept
+ * only so the renderers can still read the board as a matrix of brick colors.
+ */
+public class BitboardBoard implements Board {
+
+    // Padding bits on each side of a row, wide enough for a 4x4 brick to overhang the playfield
+    private static final int WALL = 4;
+    private static final int MAX_COLUMNS = Long.SIZE - 2 * WALL;
+
+    private final int rows;
+    private final int columns;
+    private final long fullRowMask;
+    private final long wallMask;
+    private final long[] rowBits;
+    private final int[][] colorPlane;
+    private int fullRows;
+    private final ColumnHeightIndex columnHeights;
+    private final BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    private final RotationSystem rotationSystem;
+    private int currentX;
+    private int currentY;
+    private int currentColor;
+    private final Score score;
+    private final ClearRow noLinesCleared;
+    // Results of clearing 1, 2, ... rows, created on first use and reused, sharing one row list
+    private final ClearRow[] linesCleared;
+    private final int[] clearedRows;
+
+    /**
+     * Creates a bitboard with the same dimensions convention as {@link SimpleBoard}.
+     *
+     * @param rows Number of rows in the board, including the hidden spawn rows
+     * @param columns Number of columns in the board
+     */
+    public BitboardBoard(int rows, int columns) {
+        this(rows, columns, RotationSystem.SRS);
+    }
+
+    /**
+     * @param rows Number of rows in the board, including the hidden spawn rows
+     * @param columns Number of columns in the board
+     * @param rotationSystem Rotation states and kicks used when rotating bricks
+     */
+    public BitboardBoard(int rows, int columns, RotationSystem rotationSystem) {
+        this(rows, columns, rotationSystem, RandomizerType.BAG7.create(RandomizerType.randomSeed()));
+    }
+
+    /**
+     * @param rows Number of rows in the board, including the hidden spawn rows
+     * @param columns Number of columns in the board
+     * @param rotationSystem Rotation states and kicks used when rotating bricks
+     * @param brickGenerator Source of the bricks dealt to this board
+     */
+    public BitboardBoard(int rows, int columns, RotationSystem rotationSystem, BrickGenerator brickGenerator) {
+        if (columns < 1 || columns > MAX_COLUMNS) {
+            throw new IllegalArgumentException("Bitboard supports 1 to " + MAX_COLUMNS + " columns, got " + columns);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        fullRowMask = ((1L << columns) - 1) << WALL;
+        wallMask = ~fullRowMask;
+        rowBits = new long[rows];
+        colorPlane = new int[rows][columns];
+        columnHeights = new ColumnHeightIndex(rows, columns);
+        this.brickGenerator = brickGenerator;
+        this.rotationSystem = rotationSystem;
+        brickRotator = new BrickRotator(rotationSystem);
+        score = new Score();
+        noLinesCleared = new ClearRow(0, colorPlane, 0);
+        linesCleared = new ClearRow[rows + 1];
+        clearedRows = new int[rows];
+        clearBoard();
+    }
+
+    @Override
+    public boolean moveBrickDown() {
+        return tryMove(currentX, currentY + 1);
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        return tryMove(currentX - 1, currentY);
+    }
+
+    @Override
+    public boolean moveBrickRight() {
+        return tryMove(currentX + 1, currentY);
+    }
+
+    @Override
+    public boolean rotateLeftBrick() {
+        return rotateBrick(RotationDirection.COUNTER_CLOCKWISE);
+    }
+
+    @Override
+    public boolean rotateBrick(RotationDirection direction) {
+        int transition = rotationSystem.getTransition(brickRotator.getBrick(),
+                                                      brickRotator.getCurrentShapePosition(), direction);
+        int target = rotationSystem.getTargetRotation(transition);
+        int[] masks = brickRotator.getRowMasks(target);
+
+        // Try each kick offset of the transition in order, starting with no offset
+        for (int kick = rotationSystem.getKickStart(transition); kick < rotationSystem.getKickEnd(transition); kick++) {
+            int x = currentX + rotationSystem.getKickX(kick);
+            int y = currentY + rotationSystem.getKickY(kick);
+            if (!intersects(masks, x, y)) {
+                currentX = x;
+                currentY = y;
+                brickRotator.setCurrentShape(target);
+                return true;
+            }
+        }
+
+        // All kick attempts failed
+        return false;
+    }
+
+    @Override
+    public boolean createNewBrick() {
+        BrickType currentBrick = brickGenerator.getBrick();
+        brickRotator.setBrick(currentBrick);
+        currentColor = currentBrick.getId();
+        currentX = rotationSystem.getSpawnX(columns);
+        currentY = rotationSystem.getSpawnY(currentBrick);
+        return intersects(brickRotator.getCurrentRowMasks(), currentX, currentY);
+    }
+
+    @Override
+    public int[][] getBoardMatrix() {
+        return colorPlane;
+    }
+
+    @Override
+    public ViewData getViewData() {
+        return new ViewData(brickRotator.getShapeTable(), brickRotator.getCurrentShapePosition(), currentX, currentY,
+                           rotationSystem.getShapeTable(brickGenerator.getNextBrick()), getGhostYPosition());
+    }
+
+    @Override
+    public void mergeBrickToBackground() {
+        int[] masks = brickRotator.getCurrentRowMasks();
+        for (int j = 0; j < masks.length; j++) {
+            int mask = masks[j];
+            if (mask == 0) {
+                continue;
+            }
+            int row = currentY + j;
+            rowBits[row] |= (long) mask << (currentX + WALL);
+            if ((rowBits[row] & fullRowMask) == fullRowMask) {
+                fullRows++;
+            }
+            int[] colorRow = colorPlane[row];
+            for (int i = 0; mask != 0; i++, mask >>>= 1) {
+                if ((mask & 1) != 0) {
+                    colorRow[currentX + i] = currentColor;
+                }
+            }
+        }
+        columnHeights.onMerge(brickRotator.getShapeTable(), brickRotator.getCurrentShapePosition(), currentX, currentY);
+    }
+
+    @Override
+    public ClearRow clearRows() {
+        // Full rows are detected while merging, so most landings skip the scan
+        if (fullRows == 0) {
+            return noLinesCleared;
+        }
+
+        // Compact rows bottom-up, swapping row references so the removed color rows
+        // end up at the top where they are wiped and reused
+        int cleared = fullRows;
+        int write = rows - 1;
+        for (int read = rows - 1; read >= 0; read--) {
+            if ((rowBits[read] & fullRowMask) == fullRowMask) {
+                clearedRows[--cleared] = read;
+            } else {
+                if (write != read) {
+                    rowBits[write] = rowBits[read];
+                    int[] colorRow = colorPlane[write];
+                    colorPlane[write] = colorPlane[read];
+                    colorPlane[read] = colorRow;
+                }
+                write--;
+            }
+        }
+        for (int row = 0; row <= write; row++) {
+            rowBits[row] = wallMask;
+            Arrays.fill(colorPlane[row], 0);
+        }
+
+        int linesRemoved = fullRows;
+        fullRows = 0;
+        columnHeights.onRowsCleared(colorPlane, linesRemoved);
+        if (linesCleared[linesRemoved] == null) {
+            int scoreBonus = 50 * linesRemoved * linesRemoved;
+            linesCleared[linesRemoved] = new ClearRow(linesRemoved, colorPlane, scoreBonus, clearedRows);
+        }
+        return linesCleared[linesRemoved];
+    }
+
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    @Override
+    public void newGame() {
+        clearBoard();
+        score.reset();
+        // A seeded game starts over with the same bricks
+        brickGenerator.reset();
+        createNewBrick();
+    }
+
+    @Override
+    public int getGhostYPosition() {
+        // Calculate where the brick would land if dropped straight down,
+        // using the column surface unless the brick is tucked under an overhang
+        int landingY = columnHeights.findLandingY(brickRotator.getShapeTable(),
+                                                  brickRotator.getCurrentShapePosition(), currentX, currentY);
+        if (landingY != ColumnHeightIndex.UNKNOWN) {
+            return landingY;
+        }
+
+        int[] masks = brickRotator.getCurrentRowMasks();
+        int ghostY = currentY;
+        while (!intersects(masks, currentX, ghostY + 1)) {
+            ghostY++;
+        }
+        return ghostY;
+    }
+
+    @Override
+    public void hardDrop() {
+        // Move brick to ghost position instantly
+        currentY = getGhostYPosition();
+        // Award +30 points for hard drop
+        score.add(30);
+    }
+
+    @Override
+    public ClearRow landBrickAndClearRows() {
+        // Merge the brick to the background
+        mergeBrickToBackground();
+
+        // Clear any completed rows
+        ClearRow clearRow = clearRows();
+
+        // Update score if rows were cleared
+        if (clearRow.getLinesRemoved() > 0) {
+            score.add(clearRow.getScoreBonus());
+            score.addLinesCleared(clearRow.getLinesRemoved());
+        }
+
+        return clearRow;
+    }
+
+    private boolean tryMove(int x, int y) {
+        if (intersects(brickRotator.getCurrentRowMasks(), x, y)) {
+            return false;
+        }
+        currentX = x;
+        currentY = y;
+        return true;
+    }
+
+    /**
+     * Checks whether a brick with the given row masks would overlap a wall,
+     * the floor or a filled cell when placed at (x, y).
+     */
+    private boolean intersects(int[] masks, int x, int y) {
+        int shift = x + WALL;
+        for (int j = 0; j < masks.length; j++) {
+            int mask = masks[j];
+            if (mask == 0) {
+                continue;
+            }
+            int row = y + j;
+            if (shift < 0 || row < 0 || row >= rows) {
+                return true;
+            }
+            if ((rowBits[row] & ((long) mask << shift)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void clearBoard() {
+        for (int row = 0; row < rows; row++) {
+            rowBits[row] = wallMask;
+            Arrays.fill(colorPlane[row], 0);
+        }
+        fullRows = 0;
+        columnHeights.reset();
+    }
+}
@@ -2,6 +2,7 @@ package com.comp2042.game.models;
 import com.comp2042.game.models.Board;
 import com.comp2042.game.events.ClearRow;
 import com.comp2042.game.models.ViewData;
+import com.comp2042.logic.rotation.RotationDirection;
 
 public interface Board {
 
@@ -13,6 +14,15 @@ public interface Board {
 
     boolean rotateLeftBrick();
 
+    /**
+     * Rotates the current brick using the board's rotation system,
+     * trying each kick offset of the transition in order.
+     *
+     * @param direction The direction to rotate in
+     * @return true if the brick was rotated, false if every kick collided
+     */
+    boolean rotateBrick(RotationDirection direction);
+
     boolean createNewBrick();
 
     int[][] getBoardMatrix();
@@ -0,0 +1,78 @@
+package com.comp2042.game.models;
+
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.RandomizerType;
+import com.comp2042.logic.rotation.RotationSystem;
+
+/**
+ * Available board implementations.
+ * The implementation used by the game can be chosen at startup with the
+ * {@code tetris.board} system property, e.g. {@code -Dtetris.board=bitboard}.
+ */
+public enum BoardType {
+
+    /** Matrix-backed board that checks collisions cell by cell */
+    SIMPLE,
+
+    /** Row-bitmask board that checks collisions with shift/AND operations */
+    BITBOARD;
+
+    /** Name of the system property used to select the board implementation */
+    public static final String SYSTEM_PROPERTY = "tetris.board";
+
+    /** Number of rows of a standard board, including the hidden spawn rows */
+    public static final int ROWS = 25;
+
+    /** Number of columns of a standard board */
+    public static final int COLUMNS = 10;
+
+    /**
+     * Creates a new board of this type, using the rotation system, randomizer and seed
+     * selected with the {@code tetris.rotation}, {@code tetris.randomizer} and
+     * {@code tetris.seed} system properties.
+     *
+     * @param width Number of rows in the board, including the hidden spawn rows
+     * @param height Number of columns in the board
+     * @return A new board instance
+     */
+    public Board createBoard(int width, int height) {
+        return createBoard(width, height, RotationSystem.fromSystemProperty(),
+                           RandomizerType.fromSystemProperty().create(RandomizerType.seedFromSystemProperty()));
+    }
+
+    /**
+     * Creates a new board of this type.
+     *
+     * @param width Number of rows in the board, including the hidden spawn rows
+     * @param height Number of columns in the board
+     * @param rotationSystem Rotation states and kicks used when rotating bricks
+     * @param brickGenerator Source of the bricks dealt to the board
+     * @return A new board instance
+     */
+    public Board createBoard(int width, int height, RotationSystem rotationSystem, BrickGenerator brickGenerator) {
+        switch (this) {
+            case BITBOARD: return new BitboardBoard(width, height, rotationSystem, brickGenerator);
+            case SIMPLE:
+            default: return new SimpleBoard(width, height, rotationSystem, brickGenerator);
+        }
+    }
+
+    /**
+     * Resolves the board type from the {@code tetris.board} system property.
+     * Falls back to {@link #SIMPLE} when the property is missing or not recognised.
+     *
+     * @return The configured board type
+     */
+    public static BoardType fromSystemProperty() {
+        String value = System.getProperty(SYSTEM_PROPERTY);
+        if (value != null) {
+            for (BoardType type : values()) {
+                if (type.name().equalsIgnoreCase(value.trim())) {
+                    return type;
+                }
+            }
+            System.err.println("Unknown board type '" + value + "', using " + SIMPLE.name().toLowerCase());
+        }
+        return SIMPLE;
+    }
+}
@@ -0,0 +1,104 @@
+package com.comp2042.game.models;
+
+import com.comp2042.logic.bricks.ShapeTable;
+
+/**
+ * Tracks the surface of the board: the highest filled row of every column.
+ * The index is updated incrementally when a brick is merged and when rows are cleared,
+ * so the landing row of a brick can be found from its per-column bottom profile
+ * without stepping it down one row at a time.
+ */
+final class ColumnHeightIndex {
+
+    /** Returned by {@link #findLandingY} when the brick is below the surface of a column */
+    static final int UNKNOWN = -1;
+
+    private final int rows;
+    private final int[] tops;
+
+    ColumnHeightIndex(int rows, int columns) {
+        this.rows = rows;
+        this.tops = new int[columns];
+        reset();
+    }
+
+    /**
+     * Marks every column as empty.
+     */
+    void reset() {
+        for (int col = 0; col < tops.length; col++) {
+            tops[col] = rows;
+        }
+    }
+
+    /**
+     * Gets the highest filled row of a column, or the row count when the column is empty.
+     */
+    int getTop(int col) {
+        return tops[col];
+    }
+
+    /**
+     * Gets the number of rows between the floor and the surface of a column.
+     */
+    int getHeight(int col) {
+        return rows - tops[col];
+    }
+
+    /**
+     * Raises the surface where a brick has just been merged.
+     */
+    void onMerge(ShapeTable shapeTable, int rotation, int x, int y) {
+        for (int col = 0; col < shapeTable.getMatrixWidth(); col++) {
+            int top = shapeTable.getColumnTop(rotation, col);
+            if (top >= 0 && y + top < tops[x + col]) {
+                tops[x + col] = y + top;
+            }
+        }
+    }
+
+    /**
+     * Lowers the surface after rows have been cleared and the board compacted.
+     * Every cleared row lies at or below each column's old surface, so the rows above
+     * {@code top + linesRemoved} are still empty and only a short scan is needed when
+     * the old surface row itself was cleared.
+     */
+    void onRowsCleared(int[][] matrix, int linesRemoved) {
+        if (linesRemoved == 0) {
+            return;
+        }
+        for (int col = 0; col < tops.length; col++) {
+            if (tops[col] == rows) {
+                continue;
+            }
+            int row = tops[col] + linesRemoved;
+            while (row < rows && matrix[row][col] == 0) {
+                row++;
+            }
+            tops[col] = row;
+        }
+    }
+
+    /**
+     * Finds the row a brick would land on if dropped straight down from (x, y).
+     *
+     * @return The landing y offset, or {@link #UNKNOWN} when part of the brick is already
+     *         at or below a column's surface (e.g. tucked under an overhang), in which case
+     *         the caller has to fall back to a step-by-step search
+     */
+    int findLandingY(ShapeTable shapeTable, int rotation, int x, int y) {
+        int landingY = Integer.MAX_VALUE;
+        for (int col = 0; col < shapeTable.getMatrixWidth(); col++) {
+            int bottom = shapeTable.getColumnBottom(rotation, col);
+            if (bottom < 0) {
+                continue;
+            }
+            int top = tops[x + col];
+            if (y + bottom >= top) {
+                return UNKNOWN;
+            }
+            landingY = Math.min(landingY, top - 1 - bottom);
+        }
+        return landingY;
+    }
+}
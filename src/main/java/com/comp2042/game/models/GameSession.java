@@ -0,0 +1,139 @@
+package com.comp2042.game.models;
+
+import com.comp2042.game.clock.GameClock;
+import com.comp2042.game.events.ClearRow;
+import com.comp2042.game.events.DownData;
+import com.comp2042.game.events.EventSource;
+import com.comp2042.logic.rotation.RotationDirection;
+
+/**
+ * Runs the rules of a single game on top of a {@link Board}: gravity and soft drops,
+ * landing, line clears, spawning the next brick and detecting game over.
+ * It has no UI dependencies, so games can be simulated headless or driven by a controller.
+ */
+public class GameSession {
+
+    private final Board board;
+    private boolean gameOver;
+    // Gravity progress towards the next row, in units of 1/TICKS_PER_SECOND ms so
+    // that whole-millisecond drop delays accumulate without rounding drift
+    private long gravityProgress;
+
+    /**
+     * @param board The board this session plays on
+     */
+    public GameSession(Board board) {
+        this.board = board;
+    }
+
+    /**
+     * Spawns the first brick of the game on the board as it currently is.
+     */
+    public void start() {
+        gameOver = board.createNewBrick();
+        gravityProgress = 0;
+    }
+
+    /**
+     * Clears the board and score and spawns the first brick of a new game.
+     */
+    public void newGame() {
+        board.newGame();
+        gameOver = false;
+        gravityProgress = 0;
+    }
+
+    /**
+     * Moves the current brick down one row, landing it when it cannot move.
+     * User-initiated soft drops award one point per row.
+     *
+     * @param source Whether the move came from the player or from gravity
+     * @return The landing result (null clear row if the brick only moved) and the new view
+     */
+    public DownData moveDown(EventSource source) {
+        if (board.moveBrickDown()) {
+            if (source == EventSource.USER) {
+                board.getScore().add(1);
+            }
+            return new DownData(null, board.getViewData());
+        }
+        return land();
+    }
+
+    /**
+     * Drops the current brick to its landing position and lands it immediately.
+     *
+     * @return The landing result and the view of the next brick
+     */
+    public DownData hardDrop() {
+        board.hardDrop();
+        return land();
+    }
+
+    public ViewData moveLeft() {
+        board.moveBrickLeft();
+        return board.getViewData();
+    }
+
+    public ViewData moveRight() {
+        board.moveBrickRight();
+        return board.getViewData();
+    }
+
+    public ViewData rotate(RotationDirection direction) {
+        board.rotateBrick(direction);
+        return board.getViewData();
+    }
+
+    /**
+     * Advances gravity by one {@link GameClock} tick at the speed of the current level.
+     * Fractions of a row carry over between ticks, so the drop rate matches
+     * {@link GameSpeedCalculator} exactly instead of being rounded to whole ticks.
+     *
+     * @return The number of rows gravity moves the brick on this tick, usually 0 or 1
+     */
+    public int advanceGravity() {
+        // One tick is 1000 / TICKS_PER_SECOND ms, one row costs the drop delay
+        gravityProgress += 1000;
+        long rowCost = Math.round(getDropDelayMillis() * GameClock.TICKS_PER_SECOND);
+        int rows = (int) (gravityProgress / rowCost);
+        gravityProgress -= rows * rowCost;
+        return rows;
+    }
+
+    /**
+     * Gets how far gravity has progressed towards moving the brick down one more row,
+     * as of the last tick. Renderers use it to draw the brick between rows.
+     *
+     * @return The progress in rows, from 0 right after a step to just under 1 before the next
+     */
+    public double getGravityFraction() {
+        return (double) gravityProgress / Math.round(getDropDelayMillis() * GameClock.TICKS_PER_SECOND);
+    }
+
+    /**
+     * Gets the delay between gravity steps for the current level.
+     */
+    public double getDropDelayMillis() {
+        return GameSpeedCalculator.calculateSpeed(board.getScore().getLevel());
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public Score getScore() {
+        return board.getScore();
+    }
+
+    private DownData land() {
+        ClearRow clearRow = board.landBrickAndClearRows();
+        // The game is over when the next brick has no room to spawn
+        gameOver = board.createNewBrick();
+        return new DownData(clearRow, board.getViewData());
+    }
+}
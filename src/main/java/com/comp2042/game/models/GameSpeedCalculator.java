@@ -1,4 +1,4 @@
-package com.comp2042.utils;
+package com.comp2042.game.models;
 
 /**
  * Utility class for calculating game speed based on difficulty level.
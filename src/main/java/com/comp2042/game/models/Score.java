@@ -1,44 +1,44 @@
 package com.comp2042.game.models;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-
+/**
+ * Score, lines cleared and level of one game, kept as plain counters so the rules
+ * can run without JavaFX. The UI publishes these values to properties once per frame.
+ */
 public final class Score {
 
-    private final IntegerProperty score = new SimpleIntegerProperty(0);
-    private final IntegerProperty linesCleared = new SimpleIntegerProperty(0);
-    private final IntegerProperty level = new SimpleIntegerProperty(1);
+    private int score;
+    private int linesCleared;
+    private int level = 1;
 
-    public IntegerProperty scoreProperty() {
+    public int getScore() {
         return score;
     }
 
-    public IntegerProperty linesClearedProperty() {
+    public int getLinesCleared() {
         return linesCleared;
     }
 
-    public IntegerProperty levelProperty() {
+    public int getLevel() {
         return level;
     }
 
     public void add(int i){
-        score.setValue(score.getValue() + i);
+        score += i;
     }
 
     public void addLinesCleared(int lines) {
-        linesCleared.setValue(linesCleared.getValue() + lines);
+        linesCleared += lines;
         updateLevel();
     }
 
     private void updateLevel() {
         // Level = (lines cleared / 10) + 1
-        int newLevel = (linesCleared.getValue() / 10) + 1;
-        level.setValue(newLevel);
+        level = (linesCleared / 10) + 1;
     }
 
     public void reset() {
-        score.setValue(0);
-        linesCleared.setValue(0);
-        level.setValue(1);
+        score = 0;
+        linesCleared = 0;
+        level = 1;
     }
 }
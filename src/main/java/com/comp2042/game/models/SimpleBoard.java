@@ -1,132 +1,105 @@
 package com.comp2042.game.models;
 
 import com.comp2042.game.events.ClearRow;
-import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.MatrixOperations;
 import com.comp2042.logic.bricks.BrickGenerator;
-import com.comp2042.logic.bricks.RandomBrickGenerator;
-import com.comp2042.utils.BrickRotator;
-import com.comp2042.utils.MatrixOperations;
-import com.comp2042.utils.NextShapeInfo;
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.bricks.RandomizerType;
+import com.comp2042.logic.rotation.BrickRotator;
+import com.comp2042.logic.rotation.RotationDirection;
+import com.comp2042.logic.rotation.RotationSystem;
 
-import java.awt.Point;
+import java.util.Arrays;
 
 public class SimpleBoard implements Board {
 
-    private final int width;
-    private final int height;
     private final BrickGenerator brickGenerator;
     private final BrickRotator brickRotator;
-    private int[][] currentGameMatrix;
-    private Point currentOffset;
+    private final RotationSystem rotationSystem;
+    private final int columns;
+    private final int[][] currentGameMatrix;
+    private final int[] rowFill;
+    private int fullRows;
+    private final ColumnHeightIndex columnHeights;
+    private int currentX;
+    private int currentY;
     private final Score score;
+    private final ClearRow noLinesCleared;
+    // Results of clearing 1, 2, ... rows, created on first use and reused, sharing one row list
+    private final ClearRow[] linesCleared;
+    private final int[] clearedRows;
 
     public SimpleBoard(int width, int height) {
-        this.width = width;
-        this.height = height;
+        this(width, height, RotationSystem.SRS);
+    }
+
+    /**
+     * @param width Number of rows in the board, including the hidden spawn rows
+     * @param height Number of columns in the board
+     * @param rotationSystem Rotation states and kicks used when rotating bricks
+     */
+    public SimpleBoard(int width, int height, RotationSystem rotationSystem) {
+        this(width, height, rotationSystem, RandomizerType.BAG7.create(RandomizerType.randomSeed()));
+    }
+
+    /**
+     * @param width Number of rows in the board, including the hidden spawn rows
+     * @param height Number of columns in the board
+     * @param rotationSystem Rotation states and kicks used when rotating bricks
+     * @param brickGenerator Source of the bricks dealt to this board
+     */
+    public SimpleBoard(int width, int height, RotationSystem rotationSystem, BrickGenerator brickGenerator) {
+        columns = height;
         currentGameMatrix = new int[width][height];
-        brickGenerator = new RandomBrickGenerator();
-        brickRotator = new BrickRotator();
+        rowFill = new int[width];
+        columnHeights = new ColumnHeightIndex(width, height);
+        this.brickGenerator = brickGenerator;
+        this.rotationSystem = rotationSystem;
+        brickRotator = new BrickRotator(rotationSystem);
         score = new Score();
+        noLinesCleared = new ClearRow(0, currentGameMatrix, 0);
+        linesCleared = new ClearRow[width + 1];
+        clearedRows = new int[width];
     }
 
     @Override
     public boolean moveBrickDown() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(0, 1);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
-        }
+        return tryMove(currentX, currentY + 1);
     }
 
 
     @Override
     public boolean moveBrickLeft() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(-1, 0);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
-        }
+        return tryMove(currentX - 1, currentY);
     }
 
     @Override
     public boolean moveBrickRight() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(1, 0);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
-        }
+        return tryMove(currentX + 1, currentY);
     }
 
     @Override
     public boolean rotateLeftBrick() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        NextShapeInfo nextShape = brickRotator.getNextShape();
-
-        // Try rotation at current position first
-        boolean conflict = MatrixOperations.intersect(currentMatrix, nextShape.getShape(),
-                                                     (int) currentOffset.getX(), (int) currentOffset.getY());
-        if (!conflict) {
-            brickRotator.setCurrentShape(nextShape.getPosition());
-            return true;
-        }
-
-        // Wall kick: Try shifting left
-        Point leftKick = new Point(currentOffset);
-        leftKick.translate(-1, 0);
-        conflict = MatrixOperations.intersect(currentMatrix, nextShape.getShape(),
-                                             (int) leftKick.getX(), (int) leftKick.getY());
-        if (!conflict) {
-            currentOffset = leftKick;
-            brickRotator.setCurrentShape(nextShape.getPosition());
-            return true;
-        }
-
-        // Wall kick: Try shifting right
-        Point rightKick = new Point(currentOffset);
-        rightKick.translate(1, 0);
-        conflict = MatrixOperations.intersect(currentMatrix, nextShape.getShape(),
-                                             (int) rightKick.getX(), (int) rightKick.getY());
-        if (!conflict) {
-            currentOffset = rightKick;
-            brickRotator.setCurrentShape(nextShape.getPosition());
-            return true;
-        }
-
-        // Wall kick: Try shifting two units left (for I-piece)
-        Point leftKick2 = new Point(currentOffset);
-        leftKick2.translate(-2, 0);
-        conflict = MatrixOperations.intersect(currentMatrix, nextShape.getShape(),
-                                             (int) leftKick2.getX(), (int) leftKick2.getY());
-        if (!conflict) {
-            currentOffset = leftKick2;
-            brickRotator.setCurrentShape(nextShape.getPosition());
-            return true;
-        }
+        return rotateBrick(RotationDirection.COUNTER_CLOCKWISE);
+    }
 
-        // Wall kick: Try shifting two units right (for I-piece)
-        Point rightKick2 = new Point(currentOffset);
-        rightKick2.translate(2, 0);
-        conflict = MatrixOperations.intersect(currentMatrix, nextShape.getShape(),
-                                             (int) rightKick2.getX(), (int) rightKick2.getY());
-        if (!conflict) {
-            currentOffset = rightKick2;
-            brickRotator.setCurrentShape(nextShape.getPosition());
-            return true;
+    @Override
+    public boolean rotateBrick(RotationDirection direction) {
+        int transition = rotationSystem.getTransition(brickRotator.getBrick(),
+                                                      brickRotator.getCurrentShapePosition(), direction);
+        int target = rotationSystem.getTargetRotation(transition);
+        int[][] shape = brickRotator.getShape(target);
+
+        // Try each kick offset of the transition in order, starting with no offset
+        for (int kick = rotationSystem.getKickStart(transition); kick < rotationSystem.getKickEnd(transition); kick++) {
+            int x = currentX + rotationSystem.getKickX(kick);
+            int y = currentY + rotationSystem.getKickY(kick);
+            if (!MatrixOperations.intersect(currentGameMatrix, shape, x, y)) {
+                currentX = x;
+                currentY = y;
+                brickRotator.setCurrentShape(target);
+                return true;
+            }
         }
 
         // All kick attempts failed
@@ -135,10 +108,11 @@ public class SimpleBoard implements Board {
 
     @Override
     public boolean createNewBrick() {
-        Brick currentBrick = brickGenerator.getBrick();
+        BrickType currentBrick = brickGenerator.getBrick();
         brickRotator.setBrick(currentBrick);
-        currentOffset = new Point(4, 1); // starting position fixed to top instead of earlier middle
-        return MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        currentX = rotationSystem.getSpawnX(columns);
+        currentY = rotationSystem.getSpawnY(currentBrick);
+        return MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), currentX, currentY);
     }
 
     @Override
@@ -148,21 +122,31 @@ public class SimpleBoard implements Board {
 
     @Override
     public ViewData getViewData() {
-        return new ViewData(brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY(),
-                           brickGenerator.getNextBrick().getShapeMatrix().get(0), getGhostYPosition());
+        return new ViewData(brickRotator.getShapeTable(), brickRotator.getCurrentShapePosition(), currentX, currentY,
+                           rotationSystem.getShapeTable(brickGenerator.getNextBrick()), getGhostYPosition());
     }
 
     @Override
     public void mergeBrickToBackground() {
-        currentGameMatrix = MatrixOperations.merge(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        fullRows += MatrixOperations.mergeInPlace(currentGameMatrix, rowFill, brickRotator.getCurrentShape(), currentX, currentY);
+        columnHeights.onMerge(brickRotator.getShapeTable(), brickRotator.getCurrentShapePosition(), currentX, currentY);
     }
 
     @Override
     public ClearRow clearRows() {
-        ClearRow clearRow = MatrixOperations.checkRemoving(currentGameMatrix);
-        currentGameMatrix = clearRow.getNewMatrix();
-        return clearRow;
-
+        // The fill counters tell us whether any row is complete, so most landings skip the scan
+        if (fullRows == 0) {
+            return noLinesCleared;
+        }
+        MatrixOperations.removeFullRows(currentGameMatrix, rowFill, fullRows, clearedRows);
+        int linesRemoved = fullRows;
+        fullRows = 0;
+        columnHeights.onRowsCleared(currentGameMatrix, linesRemoved);
+        if (linesCleared[linesRemoved] == null) {
+            int scoreBonus = 50 * linesRemoved * linesRemoved;
+            linesCleared[linesRemoved] = new ClearRow(linesRemoved, currentGameMatrix, scoreBonus, clearedRows);
+        }
+        return linesCleared[linesRemoved];
     }
 
     @Override
@@ -173,36 +157,43 @@ public class SimpleBoard implements Board {
 
     @Override
     public void newGame() {
-        currentGameMatrix = new int[width][height];
+        for (int[] row : currentGameMatrix) {
+            Arrays.fill(row, 0);
+        }
+        Arrays.fill(rowFill, 0);
+        fullRows = 0;
+        columnHeights.reset();
         score.reset();
+        // A seeded game starts over with the same bricks
+        brickGenerator.reset();
         createNewBrick();
     }
 
     @Override
     public int getGhostYPosition() {
-        // Calculate where the brick would land if dropped straight down
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point ghostPosition = new Point(currentOffset);
+        // Calculate where the brick would land if dropped straight down,
+        // using the column surface unless the brick is tucked under an overhang
+        int landingY = columnHeights.findLandingY(brickRotator.getShapeTable(),
+                                                  brickRotator.getCurrentShapePosition(), currentX, currentY);
+        if (landingY != ColumnHeightIndex.UNKNOWN) {
+            return landingY;
+        }
+
+        int[][] shape = brickRotator.getCurrentShape();
+        int ghostY = currentY;
 
         // Keep moving down until we hit a conflict
-        while (true) {
-            Point nextPosition = new Point(ghostPosition);
-            nextPosition.translate(0, 1);
-            boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(),
-                                                         (int) nextPosition.getX(), (int) nextPosition.getY());
-            if (conflict) {
-                break;
-            }
-            ghostPosition = nextPosition;
+        while (!MatrixOperations.intersect(currentGameMatrix, shape, currentX, ghostY + 1)) {
+            ghostY++;
         }
 
-        return (int) ghostPosition.getY();
+        return ghostY;
     }
 
     @Override
     public void hardDrop() {
         // Move brick to ghost position instantly
-        currentOffset.y = getGhostYPosition();
+        currentY = getGhostYPosition();
         // Award +30 points for hard drop
         score.add(30);
     }
@@ -223,4 +214,16 @@ public class SimpleBoard implements Board {
 
         return clearRow;
     }
+
+    /**
+     * Moves the brick to (x, y) if it fits, checking against the live board matrix.
+     */
+    private boolean tryMove(int x, int y) {
+        if (MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), x, y)) {
+            return false;
+        }
+        currentX = x;
+        currentY = y;
+        return true;
+    }
 }
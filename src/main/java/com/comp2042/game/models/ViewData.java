@@ -1,23 +1,115 @@
 package com.comp2042.game.models;
 
-import com.comp2042.utils.MatrixOperations;
+import com.comp2042.logic.MatrixOperations;
+import com.comp2042.logic.bricks.ShapeTable;
 
+/**
+ * Read-only view of the falling brick, its landing position and the next brick.
+ * The shapes are referenced through the rotation system's shared {@link ShapeTable}s,
+ * which are immutable, so a view is built without copying and can be handed to another thread.
+ * Read cells through {@link #cell(int, int)} and {@link #nextCell(int, int)}.
+ */
 public final class ViewData {
 
+    private final ShapeTable brickShapes;
+    private final int rotation;
     private final int[][] brickData;
     private final int xPosition;
     private final int yPosition;
+    private final ShapeTable nextBrickShapes;
     private final int[][] nextBrickData;
     private final int ghostYPosition;
 
-    public ViewData(int[][] brickData, int xPosition, int yPosition, int[][] nextBrickData, int ghostYPosition) {
-        this.brickData = brickData;
+    /**
+     * @param brickShapes Shape table of the falling brick
+     * @param rotation Rotation of the falling brick in its shape table
+     * @param nextBrickShapes Shape table of the next brick, shown in its spawn rotation
+     */
+    public ViewData(ShapeTable brickShapes, int rotation, int xPosition, int yPosition,
+                    ShapeTable nextBrickShapes, int ghostYPosition) {
+        this.brickShapes = brickShapes;
+        this.rotation = rotation;
+        this.brickData = brickShapes.getShape(rotation);
         this.xPosition = xPosition;
         this.yPosition = yPosition;
-        this.nextBrickData = nextBrickData;
+        this.nextBrickShapes = nextBrickShapes;
+        this.nextBrickData = nextBrickShapes.getShape(0);
         this.ghostYPosition = ghostYPosition;
     }
 
+    /**
+     * @return The shape table of the falling brick
+     */
+    public ShapeTable getBrickShapes() {
+        return brickShapes;
+    }
+
+    /**
+     * @return The rotation of the falling brick in its shape table
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * @return The shape table of the next brick, shown in rotation 0
+     */
+    public ShapeTable getNextBrickShapes() {
+        return nextBrickShapes;
+    }
+
+    /**
+     * Gets one cell of the falling brick's shape.
+     *
+     * @return The brick id of the cell, or 0 if it is empty
+     */
+    public int cell(int row, int col) {
+        return brickData[row][col];
+    }
+
+    public int getBrickRows() {
+        return brickData.length;
+    }
+
+    public int getBrickColumns() {
+        return brickData[0].length;
+    }
+
+    /**
+     * Gets one cell of the next brick's shape.
+     *
+     * @return The brick id of the cell, or 0 if it is empty
+     */
+    public int nextCell(int row, int col) {
+        return nextBrickData[row][col];
+    }
+
+    public int getNextBrickRows() {
+        return nextBrickData.length;
+    }
+
+    public int getNextBrickColumns() {
+        return nextBrickData[0].length;
+    }
+
+    /**
+     * Checks whether another view shows the falling brick in the same shape and rotation.
+     * Shapes come from shared tables, so this is an identity check without reading cells.
+     */
+    public boolean hasSameBrick(ViewData other) {
+        return other != null && brickData == other.brickData;
+    }
+
+    /**
+     * Checks whether another view shows the same next brick.
+     */
+    public boolean hasSameNextBrick(ViewData other) {
+        return other != null && nextBrickData == other.nextBrickData;
+    }
+
+    /**
+     * @return A copy of the falling brick's shape
+     */
     public int[][] getBrickData() {
         return MatrixOperations.copy(brickData);
     }
@@ -30,6 +122,9 @@ public final class ViewData {
         return yPosition;
     }
 
+    /**
+     * @return A copy of the next brick's shape
+     */
     public int[][] getNextBrickData() {
         return MatrixOperations.copy(nextBrickData);
     }
@@ -0,0 +1,177 @@
+package com.comp2042.game.simulation;
+
+import com.comp2042.game.models.Board;
+import com.comp2042.game.models.GameSession;
+import com.comp2042.game.models.Score;
+import com.comp2042.game.models.ViewData;
+
+/**
+ * State of one board as published to the renderer.
+ * Filled on the simulation thread and read on the UI thread; a published snapshot
+ * is not written again while the reader holds it, so readers can treat it as immutable.
+ * Changes between snapshots are detected through the landing and clear counters.
+ * Row clears are numbered, and a snapshot carries every clear since the last snapshot
+ * the reader took, so readers go through the clears after the last one they showed.
+ */
+public final class BoardSnapshot {
+
+    /** Most rows a single landing can clear, the height of the tallest brick */
+    static final int MAX_CLEARED_ROWS = 4;
+
+    private final int[][] boardMatrix;
+    private ViewData viewData;
+    private int score;
+    private int linesCleared;
+    private int level;
+    private int landings;
+    private final ClearLog clears = new ClearLog();
+    private int hardDrops;
+    private ViewData lastHardDrop;
+    private boolean gameOver;
+    // Gravity progress in rows as of gravityNanos, and the time one row takes
+    private double gravityRows;
+    private long gravityNanos;
+    private double rowNanos;
+    private boolean falling;
+
+    BoardSnapshot(int rows, int columns) {
+        boardMatrix = new int[rows][columns];
+    }
+
+    void update(GameSession session, int landings, ClearLog clears, int hardDrops, ViewData lastHardDrop,
+                long lastTickNanos, boolean clockRunning) {
+        Board board = session.getBoard();
+        int[][] source = board.getBoardMatrix();
+        for (int row = 0; row < boardMatrix.length; row++) {
+            System.arraycopy(source[row], 0, boardMatrix[row], 0, boardMatrix[row].length);
+        }
+        viewData = board.getViewData();
+        Score counters = session.getScore();
+        score = counters.getScore();
+        linesCleared = counters.getLinesCleared();
+        level = counters.getLevel();
+        this.landings = landings;
+        this.clears.copyFrom(clears);
+        this.hardDrops = hardDrops;
+        this.lastHardDrop = lastHardDrop;
+        gameOver = session.isGameOver();
+        gravityRows = session.getGravityFraction();
+        gravityNanos = lastTickNanos;
+        rowNanos = session.getDropDelayMillis() * 1_000_000;
+        falling = clockRunning && !gameOver;
+    }
+
+    /**
+     * Gets the settled cells of the board. The matrix belongs to the snapshot and must not be modified.
+     */
+    public int[][] getBoardMatrix() {
+        return boardMatrix;
+    }
+
+    public ViewData getViewData() {
+        return viewData;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * @return A counter that changes whenever the settled cells change (a brick landed or a new game started)
+     */
+    public int getLandings() {
+        return landings;
+    }
+
+    /**
+     * @return The number of the latest row clear, 0 before the first; it changes whenever rows were cleared
+     */
+    public int getClears() {
+        return clears.getLast();
+    }
+
+    /**
+     * Gets the number of the oldest row clear this snapshot still carries. Every clear
+     * after the last one a reader showed is carried, up to {@link ClearLog#CAPACITY} of them.
+     *
+     * @return The number of the oldest clear, greater than {@link #getClears()} when none is carried
+     */
+    public int getFirstClear() {
+        return clears.getFirst();
+    }
+
+    /**
+     * @param clear Number of a carried clear, from getFirstClear() to getClears()
+     * @return The score bonus of the clear
+     */
+    public int getScoreBonus(int clear) {
+        return clears.getScoreBonus(clear);
+    }
+
+    /**
+     * @param clear Number of a carried clear, from getFirstClear() to getClears()
+     * @return The number of rows removed by the clear
+     */
+    public int getClearedRowCount(int clear) {
+        return clears.getRowCount(clear);
+    }
+
+    /**
+     * Gets the board index of one row removed by a clear.
+     *
+     * @param clear Number of a carried clear, from getFirstClear() to getClears()
+     * @param index Position in the list of removed rows (0 to getClearedRowCount(clear) - 1)
+     * @return The row index before the clear, in ascending order of index
+     */
+    public int getClearedRow(int clear, int index) {
+        return clears.getRow(clear, index);
+    }
+
+    /**
+     * @return A counter that changes whenever a brick was hard dropped
+     */
+    public int getHardDrops() {
+        return hardDrops;
+    }
+
+    /**
+     * Gets the most recently hard dropped brick as it was before the drop;
+     * its ghost position is where it landed.
+     *
+     * @return The brick's view, or null if no brick was hard dropped yet
+     */
+    public ViewData getLastHardDrop() {
+        return lastHardDrop;
+    }
+
+    /**
+     * Gets how far the falling brick should be drawn below its row at a point in time,
+     * extrapolating gravity from the last tick so the brick glides between rows at any
+     * frame rate. The brick never goes past the next row or into the stack.
+     *
+     * @param nanoTime The frame time, on the {@link System#nanoTime()} time base
+     * @return The offset in rows, from 0 to 1
+     */
+    public double getFallOffset(long nanoTime) {
+        if (viewData == null || viewData.getGhostYPosition() <= viewData.getyPosition()) {
+            return 0;
+        }
+        double rows = gravityRows;
+        if (falling) {
+            rows += (nanoTime - gravityNanos) / rowNanos;
+        }
+        return Math.max(0, Math.min(1, rows));
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+}
@@ -0,0 +1,220 @@
+package com.comp2042.game.simulation;
+
+import com.comp2042.game.models.ViewData;
+import com.comp2042.logic.bricks.ShapeTable;
+
+import java.util.Random;
+
+/**
+ * Plays one board of a {@link GameSimulation} from its published snapshots, for spectator views.
+ * For every new brick it tries each rotation and column, scores the resulting stack by
+ * height, holes, bumpiness and cleared rows, and then steers the brick there a step at
+ * a time: one rotation per step until the brick is in the chosen rotation, then the
+ * sideways moves and a hard drop. Steps are spaced out so the play can be followed.
+ * Must be used from the thread that submits commands to the simulation.
+ */
+public final class BotPlayer {
+
+    // Stack scoring weights of a well-known greedy Tetris player
+    private static final double HEIGHT_WEIGHT = -0.510066;
+    private static final double LINES_WEIGHT = 0.760666;
+    private static final double HOLES_WEIGHT = -0.35663;
+    private static final double BUMPINESS_WEIGHT = -0.184483;
+
+    // Rotations tried before settling for the current one, e.g. when the brick is blocked
+    private static final int MAX_ROTATE_STEPS = 4;
+    private static final long MIN_STEP_NANOS = 60_000_000L;
+    private static final long MAX_STEP_NANOS = 180_000_000L;
+
+    private final int board;
+    private final Random random;
+    private int[][] scratch;
+    private int[] heights;
+
+    // Plan for the brick that spawned after the given landing count
+    private int plannedLandings = -1;
+    private int targetRotation;
+    private int targetX;
+    private int rotateSteps;
+    private boolean dropped;
+    private long nextStepNanos;
+
+    /**
+     * @param board Index of the board this bot plays
+     * @param seed Seed for the bot's step timing
+     */
+    public BotPlayer(int board, long seed) {
+        this.board = board;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Takes the next step for the board if it is due.
+     *
+     * @param snapshot The latest snapshot of the board
+     * @param simulation The simulation to send commands to
+     * @param nanoTime The current time in nanoseconds
+     */
+    public void play(BoardSnapshot snapshot, GameSimulation simulation, long nanoTime) {
+        ViewData view = snapshot.getViewData();
+        if (view == null || snapshot.isGameOver() || nanoTime < nextStepNanos) {
+            return;
+        }
+        nextStepNanos = nanoTime + MIN_STEP_NANOS + (long) (random.nextDouble() * (MAX_STEP_NANOS - MIN_STEP_NANOS));
+
+        if (snapshot.getLandings() != plannedLandings) {
+            plannedLandings = snapshot.getLandings();
+            rotateSteps = 0;
+            dropped = false;
+            plan(snapshot.getBoardMatrix(), view);
+        } else if (dropped) {
+            // Wait for the landing to show up before planning the next brick
+            return;
+        }
+        if (view.getRotation() != targetRotation && rotateSteps < MAX_ROTATE_STEPS) {
+            rotateSteps++;
+            simulation.submit(board, GameCommand.ROTATE_CLOCKWISE);
+            return;
+        }
+        if (view.getRotation() != targetRotation) {
+            // The rotation is blocked, place the brick as it is
+            targetRotation = view.getRotation();
+            targetX = bestColumn(snapshot.getBoardMatrix(), view, targetRotation);
+        }
+        GameCommand move = targetX < view.getxPosition() ? GameCommand.MOVE_LEFT : GameCommand.MOVE_RIGHT;
+        for (int i = Math.abs(targetX - view.getxPosition()); i > 0; i--) {
+            simulation.submit(board, move);
+        }
+        simulation.submit(board, GameCommand.HARD_DROP);
+        dropped = true;
+    }
+
+    private void plan(int[][] matrix, ViewData view) {
+        ShapeTable table = view.getBrickShapes();
+        double bestScore = Double.NEGATIVE_INFINITY;
+        targetRotation = view.getRotation();
+        targetX = view.getxPosition();
+        for (int rotation = 0; rotation < table.getRotationCount(); rotation++) {
+            for (int x = -table.getMinCol(rotation); x + table.getMaxCol(rotation) < matrix[0].length; x++) {
+                double score = evaluate(matrix, table, rotation, x, view.getyPosition());
+                if (score > bestScore) {
+                    bestScore = score;
+                    targetRotation = rotation;
+                    targetX = x;
+                }
+            }
+        }
+    }
+
+    private int bestColumn(int[][] matrix, ViewData view, int rotation) {
+        ShapeTable table = view.getBrickShapes();
+        double bestScore = Double.NEGATIVE_INFINITY;
+        int best = view.getxPosition();
+        for (int x = -table.getMinCol(rotation); x + table.getMaxCol(rotation) < matrix[0].length; x++) {
+            double score = evaluate(matrix, table, rotation, x, view.getyPosition());
+            if (score > bestScore) {
+                bestScore = score;
+                best = x;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Drops a brick at a column and scores the stack it leaves.
+     *
+     * @return The score, or negative infinity if the brick does not fit at the spawn row
+     */
+    private double evaluate(int[][] matrix, ShapeTable table, int rotation, int x, int startY) {
+        if (collides(matrix, table, rotation, x, startY)) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        int y = startY;
+        while (!collides(matrix, table, rotation, x, y + 1)) {
+            y++;
+        }
+
+        int rows = matrix.length;
+        int columns = matrix[0].length;
+        if (scratch == null) {
+            scratch = new int[rows][columns];
+            heights = new int[columns];
+        }
+        for (int row = 0; row < rows; row++) {
+            System.arraycopy(matrix[row], 0, scratch[row], 0, columns);
+        }
+        int size = table.getMatrixWidth();
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                if (table.getCell(rotation, i, j) != 0) {
+                    scratch[y + i][x + j] = 1;
+                }
+            }
+        }
+
+        int lines = 0;
+        for (int row = 0; row < rows; row++) {
+            boolean full = true;
+            for (int col = 0; col < columns && full; col++) {
+                full = scratch[row][col] != 0;
+            }
+            if (full) {
+                lines++;
+                // Empty the row so it counts as neither height nor holes
+                for (int col = 0; col < columns; col++) {
+                    scratch[row][col] = -1;
+                }
+            }
+        }
+
+        int aggregateHeight = 0;
+        int holes = 0;
+        for (int col = 0; col < columns; col++) {
+            int height = 0;
+            boolean covered = false;
+            for (int row = 0; row < rows; row++) {
+                int cell = scratch[row][col];
+                if (cell > 0) {
+                    if (height == 0) {
+                        height = rows - row;
+                    }
+                    covered = true;
+                } else if (cell == 0 && covered) {
+                    holes++;
+                }
+            }
+            // Cleared rows below the top lower the column
+            for (int row = rows - height; row < rows && height > 0; row++) {
+                if (scratch[row][col] < 0) {
+                    height--;
+                }
+            }
+            heights[col] = height;
+            aggregateHeight += height;
+        }
+        int bumpiness = 0;
+        for (int col = 1; col < columns; col++) {
+            bumpiness += Math.abs(heights[col] - heights[col - 1]);
+        }
+
+        return HEIGHT_WEIGHT * aggregateHeight + LINES_WEIGHT * lines
+               + HOLES_WEIGHT * holes + BUMPINESS_WEIGHT * bumpiness;
+    }
+
+    private static boolean collides(int[][] matrix, ShapeTable table, int rotation, int x, int y) {
+        int size = table.getMatrixWidth();
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                if (table.getCell(rotation, i, j) == 0) {
+                    continue;
+                }
+                int row = y + i;
+                int col = x + j;
+                if (row < 0 || row >= matrix.length || col < 0 || col >= matrix[0].length || matrix[row][col] != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,95 @@
+package com.comp2042.game.simulation;
+
+import com.comp2042.game.events.ClearRow;
+
+/**
+ * The most recent row clears of one board, numbered 1, 2, ... in the order they happened.
+ * The simulation keeps one log per board and forgets clears once a snapshot holding them
+ * is known to have been read, so a snapshot carries every clear the renderer may not have
+ * seen, even when it skipped the snapshots in between. Readers skip the clears they
+ * already showed by their number. Backed by fixed arrays, so logging never allocates.
+ */
+final class ClearLog {
+
+    /** Clears kept at most; older ones are dropped if the reader falls this far behind */
+    static final int CAPACITY = 16;
+
+    private static final int MASK = CAPACITY - 1;
+
+    private final int[][] rows = new int[CAPACITY][BoardSnapshot.MAX_CLEARED_ROWS];
+    private final int[] rowCounts = new int[CAPACITY];
+    private final int[] scoreBonuses = new int[CAPACITY];
+    // Number of the latest clear, and of the latest one no longer held
+    private int last;
+    private int forgotten;
+
+    /**
+     * Logs a clear as the next number.
+     */
+    void add(ClearRow clearRow) {
+        last++;
+        int slot = last & MASK;
+        int count = Math.min(clearRow.getLinesRemoved(), BoardSnapshot.MAX_CLEARED_ROWS);
+        for (int i = 0; i < count; i++) {
+            rows[slot][i] = clearRow.getClearedRow(i);
+        }
+        rowCounts[slot] = count;
+        scoreBonuses[slot] = clearRow.getScoreBonus();
+        forgotten = Math.max(forgotten, last - CAPACITY);
+    }
+
+    /**
+     * Forgets the clears up to the given number, as the reader has seen them.
+     */
+    void forgetUpTo(int clear) {
+        forgotten = Math.max(forgotten, clear);
+    }
+
+    /**
+     * Replaces this log's content with the clears another log still holds.
+     */
+    void copyFrom(ClearLog other) {
+        last = other.last;
+        forgotten = other.forgotten;
+        for (int clear = forgotten + 1; clear <= last; clear++) {
+            int slot = clear & MASK;
+            System.arraycopy(other.rows[slot], 0, rows[slot], 0, other.rowCounts[slot]);
+            rowCounts[slot] = other.rowCounts[slot];
+            scoreBonuses[slot] = other.scoreBonuses[slot];
+        }
+    }
+
+    /**
+     * @return The number of the latest clear, 0 before the first
+     */
+    int getLast() {
+        return last;
+    }
+
+    /**
+     * @return The number of the oldest clear held, greater than {@link #getLast()} when none is held
+     */
+    int getFirst() {
+        return forgotten + 1;
+    }
+
+    int getRowCount(int clear) {
+        return rowCounts[slot(clear)];
+    }
+
+    int getRow(int clear, int index) {
+        return rows[slot(clear)][index];
+    }
+
+    int getScoreBonus(int clear) {
+        return scoreBonuses[slot(clear)];
+    }
+
+    private int slot(int clear) {
+        if (clear <= forgotten || clear > last) {
+            throw new IllegalArgumentException("Clear " + clear + " is not held, only "
+                                               + (forgotten + 1) + " to " + last);
+        }
+        return clear & MASK;
+    }
+}
@@ -0,0 +1,18 @@
+package com.comp2042.game.simulation;
+
+/**
+ * Commands sent from the UI to a {@link GameSimulation}.
+ * Brick commands apply to one board, the others apply to the whole game.
+ */
+public enum GameCommand {
+    MOVE_LEFT,
+    MOVE_RIGHT,
+    ROTATE_LEFT,
+    ROTATE_CLOCKWISE,
+    ROTATE_HALF_TURN,
+    SOFT_DROP,
+    HARD_DROP,
+    NEW_GAME,
+    PAUSE,
+    RESUME
+}
@@ -0,0 +1,285 @@
+package com.comp2042.game.simulation;
+
+import com.comp2042.game.clock.GameClock;
+import com.comp2042.game.clock.SystemGameClock;
+import com.comp2042.game.events.ClearRow;
+import com.comp2042.game.events.DownData;
+import com.comp2042.game.events.EventSource;
+import com.comp2042.game.models.GameSession;
+import com.comp2042.game.models.ViewData;
+import com.comp2042.logic.rotation.RotationDirection;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs one or more game sessions on a dedicated simulation thread.
+ * The UI thread sends commands through a lock-free input queue and picks up the
+ * latest published {@link GameSnapshot} once per frame, so slow rendering never
+ * delays input handling or gravity. A single fixed-rate clock drives every board.
+ * After {@link #start()} the sessions must only be touched by the simulation thread.
+ * Without {@link #start()} the owner can drive the simulation itself through
+ * {@link #step()}, e.g. with a {@link com.comp2042.game.clock.VirtualGameClock}
+ * for reproducible runs that do not depend on wall time.
+ */
+public class GameSimulation {
+
+    private static final int INPUT_CAPACITY = 256;
+    // Queue room per board when many boards are driven at once, e.g. by bots
+    private static final int INPUT_PER_BOARD = 16;
+    private static final GameCommand[] COMMANDS = GameCommand.values();
+
+    private final GameSession[] sessions;
+    private final boolean endTogether;
+    private final InputQueue input;
+    private final SnapshotBuffer snapshots;
+    private final GameClock clock;
+
+    // Per-board change counters, simulation thread only
+    private final int[] landings;
+    private final ClearLog[] clears;
+    // Number of the latest clear in the last published snapshot, per board
+    private final int[] publishedClears;
+    private final int[] hardDrops;
+    private final ViewData[] lastHardDrop;
+
+    private boolean gameOver;
+    private boolean dirty = true;
+    private volatile boolean alive = true;
+    private Thread thread;
+
+    /**
+     * Creates a simulation where the first board to top out ends the game for everyone.
+     *
+     * @param sessions The started sessions to simulate, one per board
+     */
+    public GameSimulation(GameSession... sessions) {
+        this(true, sessions);
+    }
+
+    /**
+     * @param endTogether Whether the first board to top out ends the game for everyone;
+     *                    otherwise a board that tops out starts a new game on its own
+     * @param sessions The started sessions to simulate, one per board
+     */
+    public GameSimulation(boolean endTogether, GameSession... sessions) {
+        this(new SystemGameClock(), endTogether, sessions);
+    }
+
+    /**
+     * @param clock The clock driving gravity; it belongs to the simulation from now on
+     * @param endTogether Whether the first board to top out ends the game for everyone;
+     *                    otherwise a board that tops out starts a new game on its own
+     * @param sessions The started sessions to simulate, one per board
+     */
+    public GameSimulation(GameClock clock, boolean endTogether, GameSession... sessions) {
+        this.clock = clock;
+        this.sessions = sessions.clone();
+        this.endTogether = endTogether;
+        input = new InputQueue(Math.max(INPUT_CAPACITY, Integer.highestOneBit(sessions.length * INPUT_PER_BOARD - 1) << 1));
+        landings = new int[sessions.length];
+        clears = new ClearLog[sessions.length];
+        for (int i = 0; i < clears.length; i++) {
+            clears[i] = new ClearLog();
+        }
+        publishedClears = new int[sessions.length];
+        hardDrops = new int[sessions.length];
+        lastHardDrop = new ViewData[sessions.length];
+        snapshots = new SnapshotBuffer(createSnapshot(), createSnapshot(), createSnapshot());
+        clock.addListener(this::onTick);
+        clock.start();
+    }
+
+    /**
+     * Starts the simulation thread, which calls {@link #step()} until {@link #shutdown()}.
+     */
+    public void start() {
+        thread = new Thread(this::run, "game-simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the simulation thread. The simulation cannot be restarted.
+     */
+    public void shutdown() {
+        alive = false;
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Queues a command for one board. Must always be called from the same thread.
+     *
+     * @param board Index of the board the command applies to
+     * @param command The command
+     */
+    public void submit(int board, GameCommand command) {
+        if (!input.offer(board * COMMANDS.length + command.ordinal())) {
+            System.err.println("Input queue full, dropping " + command);
+        }
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Queues a command that applies to the whole game, such as pausing.
+     */
+    public void submit(GameCommand command) {
+        submit(0, command);
+    }
+
+    /**
+     * Takes the latest snapshot published by the simulation thread.
+     *
+     * @return The snapshot, or null if nothing changed since the last call
+     */
+    public GameSnapshot pollSnapshot() {
+        return snapshots.poll();
+    }
+
+    private GameSnapshot createSnapshot() {
+        BoardSnapshot[] boards = new BoardSnapshot[sessions.length];
+        for (int i = 0; i < boards.length; i++) {
+            int[][] matrix = sessions[i].getBoard().getBoardMatrix();
+            boards[i] = new BoardSnapshot(matrix.length, matrix[0].length);
+        }
+        return new GameSnapshot(boards);
+    }
+
+    /**
+     * Runs one round of the simulation on the calling thread: applies the queued commands,
+     * runs the clock's due ticks and publishes a snapshot if anything changed.
+     * The simulation thread calls this in a loop; a simulation that is never started
+     * is stepped by its owner instead.
+     */
+    public void step() {
+        for (int code = input.poll(); code != InputQueue.EMPTY; code = input.poll()) {
+            apply(code / COMMANDS.length, COMMANDS[code % COMMANDS.length]);
+        }
+        clock.update();
+        if (dirty) {
+            publish();
+        }
+    }
+
+    private void run() {
+        while (alive) {
+            step();
+
+            // Sleep until the next tick, or until input arrives
+            if (clock.isRunning()) {
+                LockSupport.parkNanos(this, clock.getNanosUntilNextTick());
+            } else {
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    private void apply(int board, GameCommand command) {
+        switch (command) {
+            case NEW_GAME:
+                for (int i = 0; i < sessions.length; i++) {
+                    sessions[i].newGame();
+                    landings[i]++;
+                }
+                gameOver = false;
+                clock.start();
+                dirty = true;
+                return;
+            case PAUSE:
+                clock.stop();
+                // Publish so the renderer stops moving the brick between rows
+                dirty = true;
+                return;
+            case RESUME:
+                if (!gameOver) {
+                    clock.start();
+                }
+                dirty = true;
+                return;
+            default:
+                break;
+        }
+
+        // Brick commands are ignored while paused or after the game has ended
+        if (gameOver || !clock.isRunning()) {
+            return;
+        }
+        GameSession session = sessions[board];
+        switch (command) {
+            case MOVE_LEFT:
+                session.moveLeft();
+                break;
+            case MOVE_RIGHT:
+                session.moveRight();
+                break;
+            case ROTATE_LEFT:
+                session.rotate(RotationDirection.COUNTER_CLOCKWISE);
+                break;
+            case ROTATE_CLOCKWISE:
+                session.rotate(RotationDirection.CLOCKWISE);
+                break;
+            case ROTATE_HALF_TURN:
+                session.rotate(RotationDirection.HALF_TURN);
+                break;
+            case SOFT_DROP:
+                onDown(board, session.moveDown(EventSource.USER));
+                break;
+            case HARD_DROP:
+                // Keep the brick as it was before the drop, the renderer shows where it lands
+                lastHardDrop[board] = session.getBoard().getViewData();
+                hardDrops[board]++;
+                onDown(board, session.hardDrop());
+                break;
+            default:
+                break;
+        }
+        dirty = true;
+    }
+
+    private void onTick() {
+        for (int i = 0; i < sessions.length; i++) {
+            for (int rows = sessions[i].advanceGravity(); rows > 0 && !gameOver; rows--) {
+                onDown(i, sessions[i].moveDown(EventSource.THREAD));
+                dirty = true;
+            }
+        }
+    }
+
+    private void onDown(int board, DownData downData) {
+        ClearRow clearRow = downData.getClearRow();
+        if (clearRow == null) {
+            return;
+        }
+        landings[board]++;
+        if (clearRow.getLinesRemoved() > 0) {
+            clears[board].add(clearRow);
+        }
+        if (sessions[board].isGameOver()) {
+            if (endTogether) {
+                // The first board to top out ends the game for everyone
+                gameOver = true;
+                clock.stop();
+            } else {
+                sessions[board].newGame();
+                landings[board]++;
+            }
+        }
+    }
+
+    private void publish() {
+        GameSnapshot snapshot = snapshots.getWriteBuffer();
+        for (int i = 0; i < sessions.length; i++) {
+            snapshot.getBoard(i).update(sessions[i], landings[i], clears[i], hardDrops[i], lastHardDrop[i],
+                                        clock.getLastTickNanos(), clock.isRunning());
+        }
+        boolean previousTaken = snapshots.publish();
+        for (int i = 0; i < sessions.length; i++) {
+            // Clears the reader has seen need not be carried any more; if it skipped the previous
+            // snapshot they stay in the log until a snapshot holding them is taken
+            if (previousTaken) {
+                clears[i].forgetUpTo(publishedClears[i]);
+            }
+            publishedClears[i] = clears[i].getLast();
+        }
+        dirty = false;
+    }
+}
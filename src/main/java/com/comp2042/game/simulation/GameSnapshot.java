@@ -0,0 +1,21 @@
+package com.comp2042.game.simulation;
+
+/**
+ * Snapshot of every board of a game, published together after a simulation step.
+ */
+public final class GameSnapshot {
+
+    private final BoardSnapshot[] boards;
+
+    GameSnapshot(BoardSnapshot[] boards) {
+        this.boards = boards;
+    }
+
+    public BoardSnapshot getBoard(int index) {
+        return boards[index];
+    }
+
+    public int getBoardCount() {
+        return boards.length;
+    }
+}
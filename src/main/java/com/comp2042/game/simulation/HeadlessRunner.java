@@ -0,0 +1,95 @@
+package com.comp2042.game.simulation;
+
+import com.comp2042.game.clock.GameClock;
+import com.comp2042.game.clock.VirtualGameClock;
+import com.comp2042.game.models.BoardType;
+import com.comp2042.game.models.GameSession;
+import com.comp2042.logic.bricks.RandomizerType;
+import com.comp2042.logic.rotation.RotationSystem;
+
+/**
+ * Plays a game without a display: a {@link BotPlayer} plays one board of a
+ * {@link GameSimulation} that is stepped on the calling thread with a {@link VirtualGameClock},
+ * so neither the JavaFX toolkit nor wall time is involved and the same seed always
+ * plays the same game.
+ * Run with {@code java -cp <classes> com.comp2042.game.simulation.HeadlessRunner [pieces] [seed]};
+ * the board, rotation system and randomizer come from the usual system properties.
+ */
+public final class HeadlessRunner {
+
+    private static final int DEFAULT_PIECES = 1000;
+
+    private final VirtualGameClock clock = new VirtualGameClock();
+    private final GameSimulation simulation;
+    private final BotPlayer bot;
+    private BoardSnapshot board;
+
+    /**
+     * @param boardType Board implementation to play on
+     * @param rotationSystem Rotation system of the bricks
+     * @param randomizer Randomizer dealing the bricks
+     * @param seed Seed of the brick sequence and the bot's timing
+     */
+    public HeadlessRunner(BoardType boardType, RotationSystem rotationSystem, RandomizerType randomizer, long seed) {
+        GameSession session = new GameSession(boardType.createBoard(BoardType.ROWS, BoardType.COLUMNS, rotationSystem,
+                                                                    randomizer.create(seed)));
+        session.start();
+        simulation = new GameSimulation(clock, true, session);
+        bot = new BotPlayer(0, seed);
+        simulation.step();
+        board = simulation.pollSnapshot().getBoard(0);
+    }
+
+    /**
+     * Plays until the given number of bricks has landed or the game is over.
+     *
+     * @param pieces Number of bricks to land
+     * @return The board as the run ended
+     */
+    public BoardSnapshot play(int pieces) {
+        while (board.getLandings() < pieces && !board.isGameOver()) {
+            clock.advanceTicks(1);
+            simulation.step();
+            GameSnapshot snapshot = simulation.pollSnapshot();
+            if (snapshot != null) {
+                board = snapshot.getBoard(0);
+            }
+            bot.play(board, simulation, clock.getNanoTime());
+        }
+        return board;
+    }
+
+    /**
+     * @return The number of ticks played so far
+     */
+    public long getTicks() {
+        return clock.getTickCount();
+    }
+
+    public static void main(String[] args) {
+        int pieces = DEFAULT_PIECES;
+        long seed = RandomizerType.seedFromSystemProperty();
+        try {
+            if (args.length > 0) {
+                pieces = Integer.parseInt(args[0]);
+            }
+            if (args.length > 1) {
+                seed = Long.parseLong(args[1]);
+            }
+        } catch (NumberFormatException e) {
+            System.err.println("Usage: HeadlessRunner [pieces] [seed]");
+            return;
+        }
+
+        HeadlessRunner runner = new HeadlessRunner(BoardType.fromSystemProperty(), RotationSystem.fromSystemProperty(),
+                                                   RandomizerType.fromSystemProperty(), seed);
+        long start = System.nanoTime();
+        BoardSnapshot result = runner.play(pieces);
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("seed %d: %d pieces, %d lines, score %d, level %d%s%n",
+                          seed, result.getLandings(), result.getLinesCleared(), result.getScore(), result.getLevel(),
+                          result.isGameOver() ? ", game over" : "");
+        System.out.printf("%d ticks (%.1f s of game time) played in %.1f ms%n",
+                          runner.getTicks(), (double) runner.getTicks() / GameClock.TICKS_PER_SECOND, elapsed / 1e6);
+    }
+}
@@ -0,0 +1,60 @@
+package com.comp2042.game.simulation;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free single-producer, single-consumer ring buffer of int-encoded commands.
+ * The producer and consumer each own one counter and only read the other's,
+ * so neither side ever blocks or allocates.
+ */
+final class InputQueue {
+
+    /** Returned by {@link #poll()} when the queue is empty */
+    static final int EMPTY = -1;
+
+    private final int[] slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong(); // next slot to read, written by the consumer
+    private final AtomicLong tail = new AtomicLong(); // next slot to write, written by the producer
+
+    /**
+     * @param capacity Number of slots, must be a power of two
+     */
+    InputQueue(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two, got " + capacity);
+        }
+        slots = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Adds a value; producer thread only.
+     *
+     * @return false if the queue is full and the value was dropped
+     */
+    boolean offer(int value) {
+        long t = tail.get();
+        if (t - head.get() == slots.length) {
+            return false;
+        }
+        slots[(int) t & mask] = value;
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Removes the oldest value; consumer thread only.
+     *
+     * @return The value, or {@link #EMPTY} if there is none
+     */
+    int poll() {
+        long h = head.get();
+        if (h == tail.get()) {
+            return EMPTY;
+        }
+        int value = slots[(int) h & mask];
+        head.lazySet(h + 1);
+        return value;
+    }
+}
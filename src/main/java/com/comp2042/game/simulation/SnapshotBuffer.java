@@ -0,0 +1,56 @@
+package com.comp2042.game.simulation;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands snapshots from the simulation thread to the UI thread without locks.
+ * Besides the buffer being written and the buffer being read there is a third,
+ * shared slot holding the latest published snapshot, so the writer never waits
+ * for the reader and the reader never sees a snapshot that is being written.
+ */
+final class SnapshotBuffer {
+
+    private static final int INDEX = 3;
+    private static final int FRESH = 4;
+
+    private final GameSnapshot[] buffers;
+    private final AtomicInteger shared = new AtomicInteger(1);
+    private int writeIndex = 0; // writer thread only
+    private int readIndex = 2;  // reader thread only
+
+    SnapshotBuffer(GameSnapshot first, GameSnapshot second, GameSnapshot third) {
+        buffers = new GameSnapshot[] {first, second, third};
+    }
+
+    /**
+     * Gets the buffer the writer may fill next; writer thread only.
+     */
+    GameSnapshot getWriteBuffer() {
+        return buffers[writeIndex];
+    }
+
+    /**
+     * Publishes the write buffer and takes over the previously shared one; writer thread only.
+     *
+     * @return Whether the reader took the previously published snapshot; if not, it is
+     *         replaced unseen and the new one must carry everything it held
+     */
+    boolean publish() {
+        int previous = shared.getAndSet(writeIndex | FRESH);
+        writeIndex = previous & INDEX;
+        return (previous & FRESH) == 0;
+    }
+
+    /**
+     * Takes the latest published snapshot; reader thread only.
+     *
+     * @return The snapshot, or null if nothing was published since the last call
+     */
+    GameSnapshot poll() {
+        if ((shared.get() & FRESH) == 0) {
+            return null;
+        }
+        readIndex = shared.getAndSet(readIndex) & INDEX;
+        return buffers[readIndex];
+    }
+}
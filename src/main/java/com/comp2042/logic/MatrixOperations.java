@@ -0,0 +1,121 @@
+package com.comp2042.logic;
+
+import java.util.Arrays;
+
+public class MatrixOperations {
+
+    private MatrixOperations() {
+    }
+
+    public static boolean intersect(final int[][] matrix, final int[][] brick, int x, int y) {
+        for (int i = 0; i < brick.length; i++) {
+            for (int j = 0; j < brick[i].length; j++) {
+                int targetX = x + i;
+                int targetY = y + j;
+                if (brick[j][i] != 0 && (checkOutOfBound(matrix, targetX, targetY) || matrix[targetY][targetX] != 0)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean checkOutOfBound(int[][] matrix, int targetX, int targetY) {
+        return !(targetX >= 0 && targetY >= 0 && targetY < matrix.length && targetX < matrix[targetY].length);
+    }
+
+    public static int[][] copy(int[][] original) {
+        int[][] copiedMatrix = new int[original.length][];
+        for (int i = 0; i < original.length; i++) {
+            int[] row = original[i];
+            int rowLength = row.length;
+            copiedMatrix[i] = new int[rowLength];
+            System.arraycopy(row, 0, copiedMatrix[i], 0, rowLength);
+        }
+        return copiedMatrix;
+    }
+
+    /**
+     * Writes the brick cells into the matrix in place and updates the per-row fill counts.
+     *
+     * @param filledFields The matrix to merge the brick into
+     * @param rowFill Number of filled cells in each row of the matrix
+     * @param brick The brick shape to merge
+     * @param x Column offset of the brick
+     * @param y Row offset of the brick
+     * @return The number of rows that became full because of this merge
+     */
+    public static int mergeInPlace(int[][] filledFields, int[] rowFill, int[][] brick, int x, int y) {
+        int fullRows = 0;
+        for (int j = 0; j < brick.length; j++) {
+            int added = 0;
+            for (int i = 0; i < brick[j].length; i++) {
+                if (brick[j][i] != 0) {
+                    filledFields[y + j][x + i] = brick[j][i];
+                    added++;
+                }
+            }
+            if (added > 0) {
+                int row = y + j;
+                rowFill[row] += added;
+                if (rowFill[row] == filledFields[row].length) {
+                    fullRows++;
+                }
+            }
+        }
+        return fullRows;
+    }
+
+    /**
+     * Removes every full row from the matrix in place, shifting the remaining rows down.
+     * Rows are moved by swapping row references, and the removed row arrays are wiped
+     * and reused as the new empty rows at the top, so no row is ever reallocated.
+     *
+     * @param matrix The board matrix to compact
+     * @param rowFill Number of filled cells in each row, compacted alongside the matrix
+     * @param fullRows Number of full rows currently in the matrix
+     * @param clearedRows Receives the indices of the removed rows in ascending order, as they
+     *                    were before compaction; must hold at least {@code fullRows} entries
+     */
+    public static void removeFullRows(int[][] matrix, int[] rowFill, int fullRows, int[] clearedRows) {
+        int cleared = fullRows;
+        int write = matrix.length - 1;
+        for (int read = matrix.length - 1; read >= 0; read--) {
+            if (rowFill[read] == matrix[read].length) {
+                clearedRows[--cleared] = read;
+            } else {
+                if (write != read) {
+                    int[] row = matrix[write];
+                    matrix[write] = matrix[read];
+                    matrix[read] = row;
+                    rowFill[write] = rowFill[read];
+                }
+                write--;
+            }
+        }
+        for (int row = 0; row <= write; row++) {
+            Arrays.fill(matrix[row], 0);
+            rowFill[row] = 0;
+        }
+    }
+
+    /**
+     * Converts a shape matrix into one bitmask per row, where bit i is set
+     * when column i of that row is filled.
+     *
+     * @param shape The shape matrix to convert
+     * @return The row masks, one per row of the shape
+     */
+    public static int[] toRowMasks(int[][] shape) {
+        int[] masks = new int[shape.length];
+        for (int row = 0; row < shape.length; row++) {
+            for (int col = 0; col < shape[row].length; col++) {
+                if (shape[row][col] != 0) {
+                    masks[row] |= 1 << col;
+                }
+            }
+        }
+        return masks;
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.comp2042.logic.bricks;
+
+import java.util.SplittableRandom;
+
+/**
+ * Base class for seeded brick generators.
+ * Upcoming bricks are kept as brick ids in a fixed-size primitive ring buffer that
+ * is filled on demand, so drawing and previewing bricks never allocates. The same
+ * seed always produces the same sequence.
+ */
+public abstract class AbstractBrickGenerator implements BrickGenerator {
+
+    /** Number of upcoming bricks that can be buffered, and so the furthest {@link #peek(int)} can see */
+    public static final int MAX_PREVIEW = 32;
+
+    private static final int MASK = MAX_PREVIEW - 1;
+
+    private final long seed;
+    private final int[] queue = new int[MAX_PREVIEW];
+    private int head;
+    private int size;
+
+    /** Random source of the sequence, only to be used from {@link #generateId()} */
+    protected SplittableRandom random;
+
+    /**
+     * @param seed Seed of the brick sequence
+     */
+    protected AbstractBrickGenerator(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Generates the id of the brick that follows all bricks generated so far.
+     */
+    protected abstract int generateId();
+
+    /**
+     * Restores the state a subclass keeps between bricks to how it was after construction.
+     * Called by {@link #reset()}; generators without such state need not override it.
+     */
+    protected void resetState() {
+        // No state beyond the random source and the buffer
+    }
+
+    /**
+     * @return The seed this sequence was created with
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Re-creates the random source from the seed and empties the buffer of upcoming bricks.
+     */
+    @Override
+    public void reset() {
+        random = new SplittableRandom(seed);
+        head = 0;
+        size = 0;
+        resetState();
+    }
+
+    @Override
+    public BrickType getBrick() {
+        fill(1);
+        int id = queue[head];
+        head = (head + 1) & MASK;
+        size--;
+        return BrickType.fromId(id);
+    }
+
+    @Override
+    public BrickType getNextBrick() {
+        return peek(0);
+    }
+
+    @Override
+    public BrickType peek(int n) {
+        if (n < 0 || n >= MAX_PREVIEW) {
+            throw new IllegalArgumentException("Preview index must be between 0 and " + (MAX_PREVIEW - 1) + ", got " + n);
+        }
+        fill(n + 1);
+        return BrickType.fromId(queue[(head + n) & MASK]);
+    }
+
+    private void fill(int count) {
+        while (size < count) {
+            queue[(head + size) & MASK] = generateId();
+            size++;
+        }
+    }
+}
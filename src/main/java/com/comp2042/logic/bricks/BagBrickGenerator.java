@@ -0,0 +1,58 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * Bag randomizer: a bag holding a fixed number of copies of every brick type is
+ * shuffled and dealt out completely before it is refilled. One copy gives the
+ * standard 7-bag, two copies the looser 14-bag.
+ */
+public class BagBrickGenerator extends AbstractBrickGenerator {
+
+    private final int[] bag;
+    private int next;
+
+    /**
+     * @param seed Seed of the brick sequence
+     * @param copies How many copies of each brick type the bag holds
+     */
+    public BagBrickGenerator(long seed, int copies) {
+        super(seed);
+        if (copies < 1) {
+            throw new IllegalArgumentException("A bag needs at least one copy of each brick, got " + copies);
+        }
+        bag = new int[BrickType.count() * copies];
+        resetState();
+    }
+
+    /**
+     * Puts the bag back in its unshuffled order, as each shuffle starts from the previous order.
+     */
+    @Override
+    protected void resetState() {
+        int types = BrickType.count();
+        for (int i = 0; i < bag.length; i++) {
+            bag[i] = i % types + 1;
+        }
+        next = bag.length;
+    }
+
+    @Override
+    protected int generateId() {
+        if (next == bag.length) {
+            shuffle();
+            next = 0;
+        }
+        return bag[next++];
+    }
+
+    /**
+     * Fisher-Yates shuffle of the reusable bag array
+     */
+    private void shuffle() {
+        for (int i = bag.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = bag[i];
+            bag[i] = bag[j];
+            bag[j] = tmp;
+        }
+    }
+}
@@ -1,8 +1,30 @@
 package com.comp2042.logic.bricks;
 
+/**
+ * Source of the sequence of bricks handed to a board.
+ */
 public interface BrickGenerator {
 
-    Brick getBrick();
+    /**
+     * Removes and returns the next brick of the sequence.
+     */
+    BrickType getBrick();
 
-    Brick getNextBrick();
+    /**
+     * Gets the brick that the next call to {@link #getBrick()} will return, without removing it.
+     */
+    BrickType getNextBrick();
+
+    /**
+     * Looks ahead in the sequence without removing anything.
+     *
+     * @param n How far ahead to look, 0 being the same brick as {@link #getNextBrick()}
+     * @return The brick that will be returned after n further calls to {@link #getBrick()}
+     */
+    BrickType peek(int n);
+
+    /**
+     * Starts the sequence over, so the following bricks are the same as those dealt after creation.
+     */
+    void reset();
 }
@@ -0,0 +1,186 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * The seven tetromino types, each backed by a shared, precomputed {@link ShapeTable}.
+ * Brick types are flyweights: generators hand out these constants instead of
+ * building new brick objects, and the id of each type doubles as its color id.
+ */
+public enum BrickType {
+
+    I(new ShapeTable(
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {1, 1, 1, 1},
+                    {0, 0, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0}
+            }
+    )),
+
+    J(new ShapeTable(
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {2, 2, 2, 0},
+                    {0, 0, 2, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 2, 2, 0},
+                    {0, 2, 0, 0},
+                    {0, 2, 0, 0}
+            },
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 2, 0, 0},
+                    {0, 2, 2, 2},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 0, 2, 0},
+                    {0, 0, 2, 0},
+                    {0, 2, 2, 0},
+                    {0, 0, 0, 0}
+            }
+    )),
+
+    L(new ShapeTable(
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 3, 3, 3},
+                    {0, 3, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 3, 3, 0},
+                    {0, 0, 3, 0},
+                    {0, 0, 3, 0}
+            },
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 0, 3, 0},
+                    {3, 3, 3, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 3, 0, 0},
+                    {0, 3, 0, 0},
+                    {0, 3, 3, 0},
+                    {0, 0, 0, 0}
+            }
+    )),
+
+    O(new ShapeTable(
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 4, 4, 0},
+                    {0, 4, 4, 0},
+                    {0, 0, 0, 0}
+            }
+    )),
+
+    S(new ShapeTable(
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 5, 5, 0},
+                    {5, 5, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {5, 0, 0, 0},
+                    {5, 5, 0, 0},
+                    {0, 5, 0, 0},
+                    {0, 0, 0, 0}
+            }
+    )),
+
+    T(new ShapeTable(
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {6, 6, 6, 0},
+                    {0, 6, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 6, 0, 0},
+                    {0, 6, 6, 0},
+                    {0, 6, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 6, 0, 0},
+                    {6, 6, 6, 0},
+                    {0, 0, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 6, 0, 0},
+                    {6, 6, 0, 0},
+                    {0, 6, 0, 0},
+                    {0, 0, 0, 0}
+            }
+    )),
+
+    Z(new ShapeTable(
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {7, 7, 0, 0},
+                    {0, 7, 7, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 7, 0, 0},
+                    {7, 7, 0, 0},
+                    {7, 0, 0, 0},
+                    {0, 0, 0, 0}
+            }
+    ));
+
+    private static final BrickType[] VALUES = values();
+
+    private final ShapeTable shapeTable;
+
+    BrickType(ShapeTable shapeTable) {
+        this.shapeTable = shapeTable;
+    }
+
+    /**
+     * @return The id of this brick type, which is also the color id stored in the board matrix (1-7)
+     */
+    public int getId() {
+        return ordinal() + 1;
+    }
+
+    /**
+     * @return The shared, read-only shape table of this brick type
+     */
+    public ShapeTable getShapeTable() {
+        return shapeTable;
+    }
+
+    /**
+     * Looks up a brick type by its id.
+     *
+     * @param id The brick id (1-7)
+     * @return The matching brick type
+     */
+    public static BrickType fromId(int id) {
+        if (id < 1 || id > VALUES.length) {
+            throw new IllegalArgumentException("Unknown brick id: " + id);
+        }
+        return VALUES[id - 1];
+    }
+
+    /**
+     * @return The number of brick types
+     */
+    public static int count() {
+        return VALUES.length;
+    }
+}
@@ -0,0 +1,69 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * TGM-style history randomizer. Each brick is rolled at random up to a fixed number
+ * of times, keeping the first roll that is not among the last few bricks dealt.
+ * Follows the TGM2 rules: the history starts as Z, S, Z, S with six rolls, and the
+ * first brick is never S, Z or O.
+ */
+public class HistoryBrickGenerator extends AbstractBrickGenerator {
+
+    private static final int[] FIRST_BRICKS = {
+        BrickType.I.getId(), BrickType.J.getId(), BrickType.L.getId(), BrickType.T.getId()
+    };
+    private static final int ROLLS = 6;
+
+    private static final int[] INITIAL_HISTORY = {
+        BrickType.Z.getId(), BrickType.S.getId(), BrickType.Z.getId(), BrickType.S.getId()
+    };
+
+    private final int[] history = INITIAL_HISTORY.clone();
+    private int oldest;
+    private boolean first = true;
+
+    /**
+     * @param seed Seed of the brick sequence
+     */
+    public HistoryBrickGenerator(long seed) {
+        super(seed);
+    }
+
+    @Override
+    protected void resetState() {
+        System.arraycopy(INITIAL_HISTORY, 0, history, 0, history.length);
+        oldest = 0;
+        first = true;
+    }
+
+    @Override
+    protected int generateId() {
+        int id;
+        if (first) {
+            first = false;
+            id = FIRST_BRICKS[random.nextInt(FIRST_BRICKS.length)];
+        } else {
+            id = roll();
+            for (int i = 1; i < ROLLS && inHistory(id); i++) {
+                id = roll();
+            }
+        }
+
+        // Replace the oldest history entry with the brick just dealt
+        history[oldest] = id;
+        oldest = (oldest + 1) % history.length;
+        return id;
+    }
+
+    private int roll() {
+        return random.nextInt(BrickType.count()) + 1;
+    }
+
+    private boolean inHistory(int id) {
+        for (int h : history) {
+            if (h == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
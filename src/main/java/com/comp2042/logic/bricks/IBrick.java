@@ -1,32 +0,0 @@
-package com.comp2042.logic.bricks;
-
-import com.comp2042.utils.MatrixOperations;
-
-import java.util.ArrayList;
-import java.util.List;
-
-final class IBrick implements Brick {
-
-    private final List<int[][]> brickMatrix = new ArrayList<>();
-
-    public IBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {1, 1, 1, 1},
-                {0, 0, 0, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 1, 0, 0},
-                {0, 1, 0, 0},
-                {0, 1, 0, 0},
-                {0, 1, 0, 0}
-        });
-    }
-
-    @Override
-    public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
-    }
-
-}
@@ -1,26 +0,0 @@
-package com.comp2042.logic.bricks;
-
-import com.comp2042.utils.MatrixOperations;
-
-import java.util.ArrayList;
-import java.util.List;
-
-final class OBrick implements Brick {
-
-    private final List<int[][]> brickMatrix = new ArrayList<>();
-
-    public OBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 4, 4, 0},
-                {0, 4, 4, 0},
-                {0, 0, 0, 0}
-        });
-    }
-
-    @Override
-    public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
-    }
-
-}
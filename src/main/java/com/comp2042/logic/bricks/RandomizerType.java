@@ -0,0 +1,91 @@
+package com.comp2042.logic.bricks;
+
+import java.util.SplittableRandom;
+
+/**
+ * Available brick randomizers.
+ * The randomizer can be chosen at startup with the {@code tetris.randomizer} system property,
+ * e.g. {@code -Dtetris.randomizer=bag14}, and the sequence fixed with {@code -Dtetris.seed=<long>}.
+ */
+public enum RandomizerType {
+
+    /** Standard 7-bag: every brick once per shuffled bag */
+    BAG7,
+
+    /** Two copies of every brick per shuffled bag */
+    BAG14,
+
+    /** TGM-style history randomizer that avoids recently dealt bricks */
+    HISTORY,
+
+    /** Every brick picked uniformly at random */
+    UNIFORM;
+
+    /** Name of the system property used to select the randomizer */
+    public static final String SYSTEM_PROPERTY = "tetris.randomizer";
+
+    /** Name of the system property used to fix the seed of the brick sequence */
+    public static final String SEED_PROPERTY = "tetris.seed";
+
+    private static final SplittableRandom SEEDS = new SplittableRandom();
+
+    /**
+     * Creates a new generator of this type.
+     *
+     * @param seed Seed of the brick sequence
+     * @return A new brick generator
+     */
+    public AbstractBrickGenerator create(long seed) {
+        switch (this) {
+            case BAG14: return new BagBrickGenerator(seed, 2);
+            case HISTORY: return new HistoryBrickGenerator(seed);
+            case UNIFORM: return new UniformBrickGenerator(seed);
+            case BAG7:
+            default: return new BagBrickGenerator(seed, 1);
+        }
+    }
+
+    /**
+     * Resolves the randomizer from the {@code tetris.randomizer} system property.
+     * Falls back to {@link #BAG7} when the property is missing or not recognised.
+     *
+     * @return The configured randomizer
+     */
+    public static RandomizerType fromSystemProperty() {
+        String value = System.getProperty(SYSTEM_PROPERTY);
+        if (value != null) {
+            for (RandomizerType type : values()) {
+                if (type.name().equalsIgnoreCase(value.trim())) {
+                    return type;
+                }
+            }
+            System.err.println("Unknown randomizer '" + value + "', using " + BAG7.name().toLowerCase());
+        }
+        return BAG7;
+    }
+
+    /**
+     * Resolves the seed from the {@code tetris.seed} system property.
+     * Falls back to a fresh random seed when the property is missing or not a number.
+     *
+     * @return The configured seed
+     */
+    public static long seedFromSystemProperty() {
+        String value = System.getProperty(SEED_PROPERTY);
+        if (value != null) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                System.err.println("Invalid seed '" + value + "', using a random seed");
+            }
+        }
+        return randomSeed();
+    }
+
+    /**
+     * @return A new seed for a game that does not need to be reproducible
+     */
+    public static synchronized long randomSeed() {
+        return SEEDS.nextLong();
+    }
+}
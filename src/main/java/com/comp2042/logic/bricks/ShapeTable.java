@@ -0,0 +1,152 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.logic.MatrixOperations;
+
+/**
+ * Immutable, precomputed shape data for every rotation of one brick type.
+ * A single table is shared by all bricks of the same type, so reading a shape,
+ * its row masks or its bounding box never allocates.
+ */
+public final class ShapeTable {
+
+    private final int[][][] shapes;
+    private final int[][] rowMasks;
+    private final int[] minRow;
+    private final int[] maxRow;
+    private final int[] minCol;
+    private final int[] maxCol;
+    private final int[][] columnTops;
+    private final int[][] columnBottoms;
+
+    /**
+     * Builds the table from the shape matrices of each rotation.
+     * The matrices are copied, so the caller keeps ownership of its arrays.
+     *
+     * @param rotations One square shape matrix per rotation, in rotation order
+     */
+    public ShapeTable(int[][]... rotations) {
+        int count = rotations.length;
+        shapes = new int[count][][];
+        rowMasks = new int[count][];
+        minRow = new int[count];
+        maxRow = new int[count];
+        minCol = new int[count];
+        maxCol = new int[count];
+        columnTops = new int[count][];
+        columnBottoms = new int[count][];
+
+        for (int r = 0; r < count; r++) {
+            int[][] shape = MatrixOperations.copy(rotations[r]);
+            shapes[r] = shape;
+            rowMasks[r] = MatrixOperations.toRowMasks(shape);
+
+            // Find the actual bounds of the shape (non-zero cells)
+            minRow[r] = shape.length;
+            maxRow[r] = -1;
+            minCol[r] = shape[0].length;
+            maxCol[r] = -1;
+            for (int i = 0; i < shape.length; i++) {
+                for (int j = 0; j < shape[i].length; j++) {
+                    if (shape[i][j] != 0) {
+                        minRow[r] = Math.min(minRow[r], i);
+                        maxRow[r] = Math.max(maxRow[r], i);
+                        minCol[r] = Math.min(minCol[r], j);
+                        maxCol[r] = Math.max(maxCol[r], j);
+                    }
+                }
+            }
+
+            // Per-column profile of the shape, -1 for columns without cells
+            int width = shape[0].length;
+            columnTops[r] = new int[width];
+            columnBottoms[r] = new int[width];
+            for (int j = 0; j < width; j++) {
+                columnTops[r][j] = -1;
+                columnBottoms[r][j] = -1;
+                for (int i = 0; i < shape.length; i++) {
+                    if (shape[i][j] != 0) {
+                        if (columnTops[r][j] < 0) {
+                            columnTops[r][j] = i;
+                        }
+                        columnBottoms[r][j] = i;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The number of distinct rotations in this table
+     */
+    public int getRotationCount() {
+        return shapes.length;
+    }
+
+    /**
+     * Gets the value of one cell of a rotation (0 when empty, otherwise the brick color id).
+     */
+    public int getCell(int rotation, int row, int col) {
+        return shapes[rotation][row][col];
+    }
+
+    /**
+     * Gets the shape matrix of a rotation. The matrix is shared by every user
+     * of this table and must be treated as read-only.
+     */
+    public int[][] getShape(int rotation) {
+        return shapes[rotation];
+    }
+
+    /**
+     * Gets the row masks of a rotation, where bit i of entry j is set when
+     * column i of row j is filled. The array is shared and must not be modified.
+     */
+    public int[] getRowMasks(int rotation) {
+        return rowMasks[rotation];
+    }
+
+    /** @return The first row of the rotation that contains a filled cell */
+    public int getMinRow(int rotation) {
+        return minRow[rotation];
+    }
+
+    /** @return The last row of the rotation that contains a filled cell */
+    public int getMaxRow(int rotation) {
+        return maxRow[rotation];
+    }
+
+    /** @return The first column of the rotation that contains a filled cell */
+    public int getMinCol(int rotation) {
+        return minCol[rotation];
+    }
+
+    /** @return The last column of the rotation that contains a filled cell */
+    public int getMaxCol(int rotation) {
+        return maxCol[rotation];
+    }
+
+    /** @return The first filled row of a column of the rotation, or -1 if the column is empty */
+    public int getColumnTop(int rotation, int col) {
+        return columnTops[rotation][col];
+    }
+
+    /** @return The last filled row of a column of the rotation, or -1 if the column is empty */
+    public int getColumnBottom(int rotation, int col) {
+        return columnBottoms[rotation][col];
+    }
+
+    /** @return The number of columns in the rotation's shape matrix */
+    public int getMatrixWidth() {
+        return shapes[0][0].length;
+    }
+
+    /** @return The height of the rotation's bounding box in cells */
+    public int getHeight(int rotation) {
+        return maxRow[rotation] - minRow[rotation] + 1;
+    }
+
+    /** @return The width of the rotation's bounding box in cells */
+    public int getWidth(int rotation) {
+        return maxCol[rotation] - minCol[rotation] + 1;
+    }
+}
@@ -0,0 +1,19 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * Memoryless randomizer that picks every brick uniformly at random.
+ */
+public class UniformBrickGenerator extends AbstractBrickGenerator {
+
+    /**
+     * @param seed Seed of the brick sequence
+     */
+    public UniformBrickGenerator(long seed) {
+        super(seed);
+    }
+
+    @Override
+    protected int generateId() {
+        return random.nextInt(BrickType.count()) + 1;
+    }
+}
@@ -0,0 +1,73 @@
+package com.comp2042.logic.rotation;
+
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.bricks.ShapeTable;
+
+public class BrickRotator {
+
+    private final RotationSystem rotationSystem;
+    private BrickType brick;
+    private ShapeTable shapeTable;
+    private int currentShape = 0;
+
+    public BrickRotator(RotationSystem rotationSystem) {
+        this.rotationSystem = rotationSystem;
+    }
+
+    /**
+     * Gets the current shape. The matrix comes from the shared shape table,
+     * so callers must not modify it.
+     */
+    public int[][] getCurrentShape() {
+        return shapeTable.getShape(currentShape);
+    }
+
+    /**
+     * Gets the shape at the given rotation position without copying it.
+     */
+    public int[][] getShape(int position) {
+        return shapeTable.getShape(position);
+    }
+
+    /**
+     * Gets the row masks of the current rotation without copying the shape.
+     */
+    public int[] getCurrentRowMasks() {
+        return shapeTable.getRowMasks(currentShape);
+    }
+
+    /**
+     * Gets the row masks of the rotation at the given position.
+     */
+    public int[] getRowMasks(int position) {
+        return shapeTable.getRowMasks(position);
+    }
+
+    public int getCurrentShapePosition() {
+        return currentShape;
+    }
+
+    public ShapeTable getShapeTable() {
+        return shapeTable;
+    }
+
+    public RotationSystem getRotationSystem() {
+        return rotationSystem;
+    }
+
+    public BrickType getBrick() {
+        return brick;
+    }
+
+    public void setCurrentShape(int currentShape) {
+        this.currentShape = currentShape;
+    }
+
+    public void setBrick(BrickType brick) {
+        this.brick = brick;
+        this.shapeTable = rotationSystem.getShapeTable(brick);
+        currentShape = 0;
+    }
+
+
+}
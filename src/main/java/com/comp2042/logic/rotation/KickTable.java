@@ -0,0 +1,98 @@
+package com.comp2042.logic.rotation;
+
+import com.comp2042.logic.bricks.BrickType;
+
+import java.util.Arrays;
+
+/**
+ * Flat, precomputed kick data for one rotation system.
+ * Every (brick type, source rotation, direction) transition maps to a target rotation
+ * and a contiguous run of (dx, dy) offsets in two primitive arrays, so looking up
+ * and trying kicks never allocates. Offsets use board coordinates (y grows downwards).
+ */
+final class KickTable {
+
+    static final int MAX_ROTATIONS = 4;
+    private static final int DIRECTIONS = RotationDirection.values().length;
+    private static final int TRANSITIONS = BrickType.count() * MAX_ROTATIONS * DIRECTIONS;
+
+    private final int[] targets;
+    private final int[] kickStart;
+    private final int[] kickX;
+    private final int[] kickY;
+
+    private KickTable(int[] targets, int[] kickStart, int[] kickX, int[] kickY) {
+        this.targets = targets;
+        this.kickStart = kickStart;
+        this.kickX = kickX;
+        this.kickY = kickY;
+    }
+
+    static int transition(BrickType type, int from, RotationDirection direction) {
+        return (type.ordinal() * MAX_ROTATIONS + from) * DIRECTIONS + direction.ordinal();
+    }
+
+    int getTarget(int transition) {
+        return targets[transition];
+    }
+
+    int getKickStart(int transition) {
+        return kickStart[transition];
+    }
+
+    int getKickEnd(int transition) {
+        return kickStart[transition + 1];
+    }
+
+    int getKickX(int kick) {
+        return kickX[kick];
+    }
+
+    int getKickY(int kick) {
+        return kickY[kick];
+    }
+
+    /**
+     * Collects transitions in any order and packs them into flat arrays.
+     */
+    static final class Builder {
+
+        private final int[] targets = new int[TRANSITIONS];
+        private final int[][] offsets = new int[TRANSITIONS][];
+
+        /**
+         * Registers the target rotation and kick offsets for one transition.
+         *
+         * @param offsets Alternating dx, dy pairs in board coordinates, tried in order
+         */
+        Builder add(BrickType type, int from, RotationDirection direction, int to, int... offsets) {
+            int transition = transition(type, from, direction);
+            this.targets[transition] = to;
+            this.offsets[transition] = offsets;
+            return this;
+        }
+
+        KickTable build() {
+            int[] kickStart = new int[TRANSITIONS + 1];
+            int total = 0;
+            for (int t = 0; t < TRANSITIONS; t++) {
+                kickStart[t] = total;
+                total += offsets[t] == null ? 0 : offsets[t].length / 2;
+            }
+            kickStart[TRANSITIONS] = total;
+
+            int[] kickX = new int[total];
+            int[] kickY = new int[total];
+            for (int t = 0; t < TRANSITIONS; t++) {
+                if (offsets[t] == null) {
+                    continue;
+                }
+                for (int k = 0; k < offsets[t].length / 2; k++) {
+                    kickX[kickStart[t] + k] = offsets[t][2 * k];
+                    kickY[kickStart[t] + k] = offsets[t][2 * k + 1];
+                }
+            }
+            return new KickTable(Arrays.copyOf(targets, TRANSITIONS), kickStart, kickX, kickY);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.comp2042.logic.rotation;
+
+/**
+ * Directions a brick can be rotated in.
+ * Quarter turns are counted clockwise, matching the SRS state order 0 -> R -> 2 -> L.
+ */
+public enum RotationDirection {
+
+    CLOCKWISE(1),
+    HALF_TURN(2),
+    COUNTER_CLOCKWISE(3);
+
+    private final int quarterTurns;
+
+    RotationDirection(int quarterTurns) {
+        this.quarterTurns = quarterTurns;
+    }
+
+    /**
+     * @return The number of clockwise quarter turns this direction represents
+     */
+    public int getQuarterTurns() {
+        return quarterTurns;
+    }
+}
@@ -0,0 +1,257 @@
+package com.comp2042.logic.rotation;
+
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.bricks.ShapeTable;
+
+/**
+ * Pluggable rotation systems. Each system defines the rotation states of every brick
+ * and a precomputed kick table for every transition between them, so a board can
+ * rotate clockwise, counter-clockwise or by 180 degrees without any per-piece logic.
+ * The system used by the game can be chosen at startup with the
+ * {@code tetris.rotation} system property, e.g. {@code -Dtetris.rotation=classic}.
+ */
+public enum RotationSystem {
+
+    /**
+     * Super Rotation System: guideline rotation states and wall kicks,
+     * with SRS+ style kicks for 180 degree turns since the guideline defines none.
+     */
+    SRS {
+        @Override
+        ShapeTable[] createShapeTables() {
+            ShapeTable[] tables = new ShapeTable[BrickType.count()];
+            tables[BrickType.I.ordinal()] = new ShapeTable(
+                    new int[][]{{0, 0, 0, 0}, {1, 1, 1, 1}, {0, 0, 0, 0}, {0, 0, 0, 0}},
+                    new int[][]{{0, 0, 1, 0}, {0, 0, 1, 0}, {0, 0, 1, 0}, {0, 0, 1, 0}},
+                    new int[][]{{0, 0, 0, 0}, {0, 0, 0, 0}, {1, 1, 1, 1}, {0, 0, 0, 0}},
+                    new int[][]{{0, 1, 0, 0}, {0, 1, 0, 0}, {0, 1, 0, 0}, {0, 1, 0, 0}});
+            tables[BrickType.J.ordinal()] = new ShapeTable(
+                    new int[][]{{2, 0, 0, 0}, {2, 2, 2, 0}, {0, 0, 0, 0}, {0, 0, 0, 0}},
+                    new int[][]{{0, 2, 2, 0}, {0, 2, 0, 0}, {0, 2, 0, 0}, {0, 0, 0, 0}},
+                    new int[][]{{0, 0, 0, 0}, {2, 2, 2, 0}, {0, 0, 2, 0}, {0, 0, 0, 0}},
+                    new int[][]{{0, 2, 0, 0}, {0, 2, 0, 0}, {2, 2, 0, 0}, {0, 0, 0, 0}});
+            tables[BrickType.L.ordinal()] = new ShapeTable(
+                    new int[][]{{0, 0, 3, 0}, {3, 3, 3, 0}, {0, 0, 0, 0}, {0, 0, 0, 0}},
+                    new int[][]{{0, 3, 0, 0}, {0, 3, 0, 0}, {0, 3, 3, 0}, {0, 0, 0, 0}},
+                    new int[][]{{0, 0, 0, 0}, {3, 3, 3, 0}, {3, 0, 0, 0}, {0, 0, 0, 0}},
+                    new int[][]{{3, 3, 0, 0}, {0, 3, 0, 0}, {0, 3, 0, 0}, {0, 0, 0, 0}});
+            tables[BrickType.O.ordinal()] = new ShapeTable(
+                    new int[][]{{0, 4, 4, 0}, {0, 4, 4, 0}, {0, 0, 0, 0}, {0, 0, 0, 0}});
+            tables[BrickType.S.ordinal()] = new ShapeTable(
+                    new int[][]{{0, 5, 5, 0}, {5, 5, 0, 0}, {0, 0, 0, 0}, {0, 0, 0, 0}},
+                    new int[][]{{0, 5, 0, 0}, {0, 5, 5, 0}, {0, 0, 5, 0}, {0, 0, 0, 0}},
+                    new int[][]{{0, 0, 0, 0}, {0, 5, 5, 0}, {5, 5, 0, 0}, {0, 0, 0, 0}},
+                    new int[][]{{5, 0, 0, 0}, {5, 5, 0, 0}, {0, 5, 0, 0}, {0, 0, 0, 0}});
+            tables[BrickType.T.ordinal()] = new ShapeTable(
+                    new int[][]{{0, 6, 0, 0}, {6, 6, 6, 0}, {0, 0, 0, 0}, {0, 0, 0, 0}},
+                    new int[][]{{0, 6, 0, 0}, {0, 6, 6, 0}, {0, 6, 0, 0}, {0, 0, 0, 0}},
+                    new int[][]{{0, 0, 0, 0}, {6, 6, 6, 0}, {0, 6, 0, 0}, {0, 0, 0, 0}},
+                    new int[][]{{0, 6, 0, 0}, {6, 6, 0, 0}, {0, 6, 0, 0}, {0, 0, 0, 0}});
+            tables[BrickType.Z.ordinal()] = new ShapeTable(
+                    new int[][]{{7, 7, 0, 0}, {0, 7, 7, 0}, {0, 0, 0, 0}, {0, 0, 0, 0}},
+                    new int[][]{{0, 0, 7, 0}, {0, 7, 7, 0}, {0, 7, 0, 0}, {0, 0, 0, 0}},
+                    new int[][]{{0, 0, 0, 0}, {7, 7, 0, 0}, {0, 7, 7, 0}, {0, 0, 0, 0}},
+                    new int[][]{{0, 7, 0, 0}, {7, 7, 0, 0}, {7, 0, 0, 0}, {0, 0, 0, 0}});
+            return tables;
+        }
+
+        @Override
+        KickTable createKickTable(ShapeTable[] shapeTables) {
+            // Offsets below are written as in the SRS reference tables (y pointing up)
+            // and flipped to board coordinates by yUp()
+            KickTable.Builder builder = new KickTable.Builder();
+            for (BrickType type : BrickType.values()) {
+                if (type == BrickType.O) {
+                    for (RotationDirection direction : RotationDirection.values()) {
+                        builder.add(type, 0, direction, 0, 0, 0);
+                    }
+                    continue;
+                }
+                boolean isI = type == BrickType.I;
+                builder.add(type, 0, RotationDirection.CLOCKWISE, 1, isI
+                        ? yUp(0, 0, -2, 0, 1, 0, -2, -1, 1, 2)
+                        : yUp(0, 0, -1, 0, -1, 1, 0, -2, -1, -2));
+                builder.add(type, 1, RotationDirection.COUNTER_CLOCKWISE, 0, isI
+                        ? yUp(0, 0, 2, 0, -1, 0, 2, 1, -1, -2)
+                        : yUp(0, 0, 1, 0, 1, -1, 0, 2, 1, 2));
+                builder.add(type, 1, RotationDirection.CLOCKWISE, 2, isI
+                        ? yUp(0, 0, -1, 0, 2, 0, -1, 2, 2, -1)
+                        : yUp(0, 0, 1, 0, 1, -1, 0, 2, 1, 2));
+                builder.add(type, 2, RotationDirection.COUNTER_CLOCKWISE, 1, isI
+                        ? yUp(0, 0, 1, 0, -2, 0, 1, -2, -2, 1)
+                        : yUp(0, 0, -1, 0, -1, 1, 0, -2, -1, -2));
+                builder.add(type, 2, RotationDirection.CLOCKWISE, 3, isI
+                        ? yUp(0, 0, 2, 0, -1, 0, 2, 1, -1, -2)
+                        : yUp(0, 0, 1, 0, 1, 1, 0, -2, 1, -2));
+                builder.add(type, 3, RotationDirection.COUNTER_CLOCKWISE, 2, isI
+                        ? yUp(0, 0, -2, 0, 1, 0, -2, -1, 1, 2)
+                        : yUp(0, 0, -1, 0, -1, -1, 0, 2, -1, 2));
+                builder.add(type, 3, RotationDirection.CLOCKWISE, 0, isI
+                        ? yUp(0, 0, 1, 0, -2, 0, 1, -2, -2, 1)
+                        : yUp(0, 0, -1, 0, -1, -1, 0, 2, -1, 2));
+                builder.add(type, 0, RotationDirection.COUNTER_CLOCKWISE, 3, isI
+                        ? yUp(0, 0, -1, 0, 2, 0, -1, 2, 2, -1)
+                        : yUp(0, 0, 1, 0, 1, 1, 0, -2, 1, -2));
+
+                builder.add(type, 0, RotationDirection.HALF_TURN, 2, yUp(0, 0, 0, 1, 1, 1, -1, 1, 1, 0, -1, 0));
+                builder.add(type, 2, RotationDirection.HALF_TURN, 0, yUp(0, 0, 0, -1, -1, -1, 1, -1, -1, 0, 1, 0));
+                builder.add(type, 1, RotationDirection.HALF_TURN, 3, yUp(0, 0, 1, 0, 1, 2, 1, 1, 0, 2, 0, 1));
+                builder.add(type, 3, RotationDirection.HALF_TURN, 1, yUp(0, 0, -1, 0, -1, 2, -1, 1, 0, 2, 0, 1));
+            }
+            return builder.build();
+        }
+
+        @Override
+        public int getSpawnX(int columns) {
+            // Center the 4-wide shape box, leaning left on even widths as the guideline does
+            return (columns - 4) / 2;
+        }
+    },
+
+    /**
+     * The game's original rotation: its own shape tables cycled in one direction,
+     * with the same five horizontal kick attempts (0, -1, +1, -2, +2) for every piece.
+     */
+    CLASSIC {
+        @Override
+        ShapeTable[] createShapeTables() {
+            ShapeTable[] tables = new ShapeTable[BrickType.count()];
+            for (BrickType type : BrickType.values()) {
+                tables[type.ordinal()] = type.getShapeTable();
+            }
+            return tables;
+        }
+
+        @Override
+        KickTable createKickTable(ShapeTable[] shapeTables) {
+            int[] kicks = {0, 0, -1, 0, 1, 0, -2, 0, 2, 0};
+            KickTable.Builder builder = new KickTable.Builder();
+            for (BrickType type : BrickType.values()) {
+                int count = shapeTables[type.ordinal()].getRotationCount();
+                for (int from = 0; from < count; from++) {
+                    // Classic shapes advance one step per counter-clockwise ("left") rotation
+                    builder.add(type, from, RotationDirection.COUNTER_CLOCKWISE, (from + 1) % count, kicks);
+                    builder.add(type, from, RotationDirection.CLOCKWISE, (from + count - 1) % count, kicks);
+                    builder.add(type, from, RotationDirection.HALF_TURN, (from + 2) % count, kicks);
+                }
+            }
+            return builder.build();
+        }
+
+        @Override
+        public int getSpawnX(int columns) {
+            return 4;
+        }
+    };
+
+    /** Name of the system property used to select the rotation system */
+    public static final String SYSTEM_PROPERTY = "tetris.rotation";
+
+    // Board row the top of every new brick appears on: the first row below the two hidden spawn rows
+    private static final int SPAWN_TOP_ROW = 2;
+
+    private final ShapeTable[] shapeTables;
+    private final KickTable kickTable;
+
+    RotationSystem() {
+        shapeTables = createShapeTables();
+        kickTable = createKickTable(shapeTables);
+    }
+
+    abstract ShapeTable[] createShapeTables();
+
+    abstract KickTable createKickTable(ShapeTable[] shapeTables);
+
+    /**
+     * Gets the column at which new bricks spawn on a board of the given width.
+     */
+    public abstract int getSpawnX(int columns);
+
+    /**
+     * Gets the row at which a new brick's shape matrix spawns. Systems place their spawn
+     * rotations at different heights inside the matrix, so the row is chosen to put the
+     * top of the brick on the same board row under every system.
+     */
+    public int getSpawnY(BrickType type) {
+        return SPAWN_TOP_ROW - getShapeTable(type).getMinRow(0);
+    }
+
+    /**
+     * Gets the rotation states of a brick type under this system.
+     */
+    public ShapeTable getShapeTable(BrickType type) {
+        return shapeTables[type.ordinal()];
+    }
+
+    /**
+     * Gets the index of the transition used to look up targets and kicks.
+     */
+    public int getTransition(BrickType type, int from, RotationDirection direction) {
+        return KickTable.transition(type, from, direction);
+    }
+
+    /**
+     * Gets the rotation state reached by a transition.
+     */
+    public int getTargetRotation(int transition) {
+        return kickTable.getTarget(transition);
+    }
+
+    /**
+     * Gets the index of the first kick offset to try for a transition.
+     */
+    public int getKickStart(int transition) {
+        return kickTable.getKickStart(transition);
+    }
+
+    /**
+     * Gets the index just past the last kick offset of a transition.
+     */
+    public int getKickEnd(int transition) {
+        return kickTable.getKickEnd(transition);
+    }
+
+    /**
+     * Gets the horizontal offset of a kick, positive to the right.
+     */
+    public int getKickX(int kick) {
+        return kickTable.getKickX(kick);
+    }
+
+    /**
+     * Gets the vertical offset of a kick in board coordinates, positive downwards.
+     */
+    public int getKickY(int kick) {
+        return kickTable.getKickY(kick);
+    }
+
+    /**
+     * Resolves the rotation system from the {@code tetris.rotation} system property.
+     * Falls back to {@link #SRS} when the property is missing or not recognised.
+     *
+     * @return The configured rotation system
+     */
+    public static RotationSystem fromSystemProperty() {
+        String value = System.getProperty(SYSTEM_PROPERTY);
+        if (value != null) {
+            for (RotationSystem system : values()) {
+                if (system.name().equalsIgnoreCase(value.trim())) {
+                    return system;
+                }
+            }
+            System.err.println("Unknown rotation system '" + value + "', using " + SRS.name().toLowerCase());
+        }
+        return SRS;
+    }
+
+    /**
+     * Converts dx, dy pairs written with y pointing up into board coordinates.
+     */
+    private static int[] yUp(int... offsets) {
+        int[] converted = offsets.clone();
+        for (int i = 1; i < converted.length; i += 2) {
+            converted[i] = -converted[i];
+        }
+        return converted;
+    }
+}
@@ -2,82 +2,155 @@ package com.comp2042.ui.controllers;
 
 import com.comp2042.game.events.*;
 import com.comp2042.game.models.*;
+import com.comp2042.game.simulation.BoardSnapshot;
+import com.comp2042.game.simulation.GameCommand;
+import com.comp2042.game.simulation.GameSimulation;
+import com.comp2042.game.simulation.GameSnapshot;
+import com.comp2042.utils.ThrottledTimer;
 
 public class GameController implements InputEventListener {
 
-    private Board board = new SimpleBoard(25, 10);
+    private final GameSession session =
+            new GameSession(BoardType.fromSystemProperty().createBoard(BoardType.ROWS, BoardType.COLUMNS));
 
     private final GuiController viewGuiController;
 
+    private final ScorePublisher scorePublisher = new ScorePublisher();
+
+    private GameSimulation simulation;
+
+    // Counters and view of the last snapshot shown, to render only what changed
+    private int shownLandings;
+    private int shownClears;
+    private int shownHardDrops;
+    private ViewData shownView;
+    private BoardSnapshot shownBoard;
+
+    // Runs every frame: shows new snapshots and glides the brick between gravity steps
+    private final ThrottledTimer framePump = new ThrottledTimer() {
+        @Override
+        protected void tick(long now) {
+            GameSnapshot snapshot = simulation.pollSnapshot();
+            if (snapshot != null) {
+                shownBoard = snapshot.getBoard(0);
+                showSnapshot(shownBoard);
+            }
+            if (shownBoard != null) {
+                viewGuiController.setFallOffset(shownBoard.getFallOffset(now));
+            }
+            viewGuiController.animate(now);
+        }
+    };
+
     public GameController(GuiController c) {
         viewGuiController = c;
         viewGuiController.setEventListener(this);
         viewGuiController.setGameController(this);
+
+        // Few frames are needed while a menu covers the board
+        framePump.setIdle(viewGuiController.menuShownProperty().get());
+        viewGuiController.menuShownProperty().addListener((obs, oldVal, newVal) -> framePump.setIdle(newVal));
     }
 
     public void initializeGame() {
-        board.createNewBrick();
+        session.start();
+        Board board = session.getBoard();
         viewGuiController.initGameView(board.getBoardMatrix(), board.getViewData());
-        viewGuiController.bindScore(board.getScore().scoreProperty());
-        viewGuiController.bindLinesCleared(board.getScore().linesClearedProperty());
-        viewGuiController.bindLevel(board.getScore().levelProperty());
-    }
+        viewGuiController.bindScore(scorePublisher.scoreProperty());
+        viewGuiController.bindLinesCleared(scorePublisher.linesClearedProperty());
+        viewGuiController.bindLevel(scorePublisher.levelProperty());
 
-    @Override
-    public DownData onDownEvent(MoveEvent event) {
-        boolean canMove = board.moveBrickDown();
-        ClearRow clearRow = null;
-        if (!canMove) {
-            clearRow = board.landBrickAndClearRows();
-            if (board.createNewBrick()) {
-                viewGuiController.gameOver(board.getScore().scoreProperty().get());
-            }
-
-            viewGuiController.refreshGameBackground(board.getBoardMatrix());
+        // From here on the session belongs to the simulation thread
+        simulation = new GameSimulation(session);
+        viewGuiController.setSimulation(simulation);
+        simulation.start();
+        framePump.start();
+    }
 
-        } else {
-            if (event.getEventSource() == EventSource.USER) {
-                board.getScore().add(1);
-            }
+    /**
+     * Stops the simulation thread and frame updates when leaving single player mode.
+     */
+    public void shutdown() {
+        if (simulation != null) {
+            framePump.stop();
+            simulation.shutdown();
         }
-        return new DownData(clearRow, board.getViewData());
     }
 
     @Override
-    public ViewData onLeftEvent(MoveEvent event) {
-        board.moveBrickLeft();
-        return board.getViewData();
+    public void onDownEvent(MoveEvent event) {
+        simulation.submit(0, GameCommand.SOFT_DROP);
     }
 
     @Override
-    public ViewData onRightEvent(MoveEvent event) {
-        board.moveBrickRight();
-        return board.getViewData();
+    public void onLeftEvent(MoveEvent event) {
+        simulation.submit(0, GameCommand.MOVE_LEFT);
     }
 
     @Override
-    public ViewData onRotateEvent(MoveEvent event) {
-        board.rotateLeftBrick();
-        return board.getViewData();
+    public void onRightEvent(MoveEvent event) {
+        simulation.submit(0, GameCommand.MOVE_RIGHT);
     }
 
     @Override
-    public DownData onHardDropEvent() {
-        // Perform hard drop
-        board.hardDrop();
-        // Immediately trigger the merge and check for game over
-        ClearRow clearRow = board.landBrickAndClearRows();
-        if (board.createNewBrick()) {
-            viewGuiController.gameOver(board.getScore().scoreProperty().get());
+    public void onRotateEvent(MoveEvent event) {
+        switch (event.getEventType()) {
+            case ROTATE_CLOCKWISE:
+                simulation.submit(0, GameCommand.ROTATE_CLOCKWISE);
+                break;
+            case ROTATE_HALF_TURN:
+                simulation.submit(0, GameCommand.ROTATE_HALF_TURN);
+                break;
+            default:
+                simulation.submit(0, GameCommand.ROTATE_LEFT);
+                break;
         }
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
-        return new DownData(clearRow, board.getViewData());
+    }
+
+    @Override
+    public void onHardDropEvent() {
+        simulation.submit(0, GameCommand.HARD_DROP);
     }
 
     @Override
     public void createNewGame() {
-        board.newGame();
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
-        viewGuiController.refreshBrick(board.getViewData());
+        simulation.submit(GameCommand.NEW_GAME);
+    }
+
+    /**
+     * Renders the parts of a new snapshot that changed since the last one shown.
+     */
+    private void showSnapshot(BoardSnapshot board) {
+        scorePublisher.publish(board);
+        if (board.getLandings() != shownLandings) {
+            shownLandings = board.getLandings();
+            // Move the drawn rows with every clear not shown yet, so only the remaining differences are repainted
+            for (int clear = Math.max(shownClears + 1, board.getFirstClear()); clear <= board.getClears(); clear++) {
+                for (int i = 0; i < board.getClearedRowCount(clear); i++) {
+                    viewGuiController.removeRow(board.getClearedRow(clear, i));
+                }
+            }
+            viewGuiController.refreshGameBackground(board.getBoardMatrix());
+        }
+        if (board.getHardDrops() != shownHardDrops) {
+            shownHardDrops = board.getHardDrops();
+            viewGuiController.showHardDrop(board.getLastHardDrop());
+        }
+        if (board.getClears() != shownClears) {
+            // One notification for the bonus of all clears since the last frame
+            int scoreBonus = 0;
+            for (int clear = Math.max(shownClears + 1, board.getFirstClear()); clear <= board.getClears(); clear++) {
+                scoreBonus += board.getScoreBonus(clear);
+            }
+            shownClears = board.getClears();
+            viewGuiController.showScoreNotification(scoreBonus);
+        }
+        if (board.getViewData() != shownView) {
+            shownView = board.getViewData();
+            viewGuiController.refreshBrick(shownView);
+        }
+        if (board.isGameOver() && !viewGuiController.isGameOver()) {
+            viewGuiController.gameOver(board.getScore());
+        }
     }
 }
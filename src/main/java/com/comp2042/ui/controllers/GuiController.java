@@ -3,17 +3,18 @@ package com.comp2042.ui.controllers;
 import com.comp2042.audio.AudioManager;
 import com.comp2042.game.events.*;
 import com.comp2042.game.models.ViewData;
+import com.comp2042.game.simulation.GameSimulation;
 import com.comp2042.ui.panels.*;
-import com.comp2042.ui.renderers.GameRenderer;
+import com.comp2042.ui.renderers.BoardRenderer;
+import com.comp2042.ui.renderers.RendererType;
 import com.comp2042.utils.*;
 
 import java.net.URL;
 import java.util.ResourceBundle;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import javafx.beans.binding.BooleanBinding;
 import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -22,7 +23,6 @@ import javafx.scene.Group;
 import javafx.scene.layout.GridPane;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
-import javafx.util.Duration;
 
 public class GuiController implements Initializable {
 
@@ -65,16 +65,18 @@ public class GuiController implements Initializable {
     private HighScoreManager highScoreManager;
     private InputEventListener eventListener;
     private GameController gameController;
-    private Timeline timeLine;
     private Runnable modeSwitch;
+    private Runnable spectateSwitch;
 
     private boolean gameInitialized = false;
     private final BooleanProperty isPause = new SimpleBooleanProperty();
     private final BooleanProperty isGameOver = new SimpleBooleanProperty();
 
     private AudioManager audioManager;
-    private GameRenderer gameRenderer;
+    private BoardRenderer gameRenderer;
     private MenuManager menuManager;
+    private NotificationPool notificationPool;
+    private BooleanBinding menuShown;
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
@@ -102,8 +104,13 @@ public class GuiController implements Initializable {
         gamePanel.requestFocus();
         gameOverPanel.setVisible(false);
 
-        // Initialize GameRenderer
-        gameRenderer = new GameRenderer(gamePanel, brickPanel, nextBrickPanel, rootPane);
+        // Score popups reuse a few panels; a bonus beyond them is merged into the newest popup
+        notificationPool = new NotificationPool(groupNotification.getChildren(), GameConstants.MAX_SCORE_POPUPS,
+                                                NotificationPool.OverflowPolicy.MERGE);
+
+        // Initialize the board renderer selected at startup
+        gameRenderer = RendererType.fromSystemProperty().create(gamePanel, brickPanel, nextBrickPanel, rootPane,
+                                                                GameConstants.GAME_BASE_X, GameConstants.GAME_BASE_Y);
 
         // Initialize pause panel with full-screen overlay
         PausePanel pausePanel = new PausePanel();
@@ -129,6 +136,9 @@ public class GuiController implements Initializable {
         menuManager = new MenuManager(startMenuPanel, pausePanel, controlsPanel, gameOverPanel,
                                      brickPanel, nextBrickPanel, scoreText, sidebarContainer, gameBoard);
 
+        // The board is covered or frozen while any menu is up
+        menuShown = isPause.or(isGameOver).or(startMenuPanel.visibleProperty()).or(controlsPanel.visibleProperty());
+
         // Wire up game over panel buttons
         gameOverPanel.getNewGameButton().setOnAction(e -> newGame(null));
         gameOverPanel.getHomeButton().setOnAction(e -> {
@@ -168,10 +178,23 @@ public class GuiController implements Initializable {
         startMenuPanel.getTwoPlayerButton().setOnAction(e -> {
             audioManager.playButtonSound();
             startMenuPanel.stopMusic();
+            if (gameController != null) {
+                gameController.shutdown();
+            }
             if (modeSwitch != null) {
                 modeSwitch.run();
             }
         });
+        startMenuPanel.getSpectateButton().setOnAction(e -> {
+            audioManager.playButtonSound();
+            startMenuPanel.stopMusic();
+            if (gameController != null) {
+                gameController.shutdown();
+            }
+            if (spectateSwitch != null) {
+                spectateSwitch.run();
+            }
+        });
         startMenuPanel.getControlsButton().setOnAction(e -> {
             audioManager.playButtonSound();
             menuManager.showControls();
@@ -191,24 +214,31 @@ public class GuiController implements Initializable {
         menuManager.showStartMenu();
     }
 
+    /**
+     * Gets whether a menu, the pause screen or the game over screen is shown instead of a running game
+     */
+    public BooleanBinding menuShownProperty() {
+        return menuShown;
+    }
+
     public void setModeSwitch(Runnable modeSwitch) {
         this.modeSwitch = modeSwitch;
     }
 
+    public void setSpectateSwitch(Runnable spectateSwitch) {
+        this.spectateSwitch = spectateSwitch;
+    }
+
     public void initGameView(int[][] boardMatrix, ViewData brick) {
-        // Delegate rendering initialization to GameRenderer
+        // Delegate rendering initialization to the board renderer
         gameRenderer.initGameView(boardMatrix, brick);
+    }
 
-        // Initialize game timeline
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(400),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        timeLine.play();
-
-        // Set timeline reference in MenuManager
-        menuManager.setTimeline(timeLine);
+    /**
+     * Sets the simulation that menus pause and resume
+     */
+    public void setSimulation(GameSimulation simulation) {
+        menuManager.setSimulation(simulation);
     }
 
     public void refreshBrick(ViewData brick) {
@@ -217,50 +247,58 @@ public class GuiController implements Initializable {
         }
     }
 
+    /**
+     * Lowers the falling brick part of the way to the next row
+     */
+    public void setFallOffset(double rows) {
+        gameRenderer.setFallOffset(rows);
+    }
+
+    /**
+     * Advances board animations such as row clears to the frame time
+     */
+    public void animate(long nanoTime) {
+        gameRenderer.animate(nanoTime);
+    }
+
     public void refreshGameBackground(int[][] board) {
         gameRenderer.refreshGameBackground(board);
     }
 
-    public void moveDown(MoveEvent event) {
-        if (isPause.getValue() == Boolean.FALSE) {
-            DownData downData = eventListener.onDownEvent(event);
-            if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
-                showScoreNotification(downData.getClearRow().getScoreBonus());
-            }
-            refreshBrick(downData.getViewData());
+    /**
+     * Switches to the next colour theme and repaints the board with it
+     */
+    public void cycleTheme() {
+        BrickColorManager.setTheme(BrickColorManager.getTheme().next());
+        if (gameInitialized) {
+            gameRenderer.repaint();
         }
-        gamePanel.requestFocus();
     }
 
-    public void hardDrop() {
-        if (isPause.getValue() == Boolean.FALSE) {
-            DownData downData = eventListener.onHardDropEvent();
-            if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
-                showScoreNotification(downData.getClearRow().getScoreBonus());
-            }
-            refreshBrick(downData.getViewData());
-            gamePanel.requestFocus();
-        }
+    /**
+     * Shifts the drawn board for a cleared row before the next background refresh
+     */
+    public void removeRow(int row) {
+        gameRenderer.removeRow(row);
     }
 
-    private void showScoreNotification(int scoreBonus) {
-        NotificationPanel notificationPanel = new NotificationPanel("+" + scoreBonus);
+    /**
+     * Plays the impact of a hard dropped brick where it landed
+     */
+    public void showHardDrop(ViewData brick) {
+        gameRenderer.showHardDrop(brick);
+    }
 
+    public void showScoreNotification(int scoreBonus) {
         // Center the notification on the game board
         double boardWidth = gameBoard.getWidth();
         double boardHeight = gameBoard.getHeight();
-        double notificationWidth = 230; // NotificationPanel preferred width
-        double notificationHeight = 100; // NotificationPanel preferred height
 
         // Calculate center position
-        double centerX = (boardWidth - notificationWidth) / 2;
-        double centerY = (boardHeight - notificationHeight) / 2;
+        double centerX = (boardWidth - NotificationPanel.WIDTH) / 2;
+        double centerY = (boardHeight - NotificationPanel.HEIGHT) / 2;
 
-        notificationPanel.setLayoutX(centerX);
-        notificationPanel.setLayoutY(centerY);
-
-        groupNotification.getChildren().add(notificationPanel);
-        notificationPanel.showScore(groupNotification.getChildren());
+        notificationPool.show(scoreBonus, centerX, centerY);
     }
 
     public void setEventListener(InputEventListener eventListener) {
@@ -275,11 +313,11 @@ public class GuiController implements Initializable {
         this.gameController = gameController;
     }
 
-    public void bindScore(IntegerProperty integerProperty) {
+    public void bindScore(ReadOnlyIntegerProperty integerProperty) {
         scoreText.textProperty().bind(integerProperty.asString());
     }
 
-    public void bindLinesCleared(IntegerProperty integerProperty) {
+    public void bindLinesCleared(ReadOnlyIntegerProperty integerProperty) {
         linesClearedText.textProperty().bind(integerProperty.asString());
         // Listen for lines cleared changes to play break sound
         integerProperty.addListener((obs, oldVal, newVal) -> {
@@ -290,11 +328,10 @@ public class GuiController implements Initializable {
         });
     }
 
-    public void bindLevel(IntegerProperty integerProperty) {
+    public void bindLevel(ReadOnlyIntegerProperty integerProperty) {
         levelText.textProperty().bind(integerProperty.asString());
-        // Listen for level changes to update game speed
+        // Gravity reads the level on every clock tick, so level changes only need a sound
         integerProperty.addListener((obs, oldVal, newVal) -> {
-            updateGameSpeed(newVal.intValue());
             // Play stage clear sound when leveling up (but not on initial level 1)
             if (oldVal.intValue() > 0 && newVal.intValue() > oldVal.intValue()) {
                 audioManager.playStageClearSound();
@@ -302,24 +339,6 @@ public class GuiController implements Initializable {
         });
     }
 
-    /**
-     * Updates the game speed based on the current level
-     */
-    private void updateGameSpeed(int level) {
-        if (timeLine != null) {
-            double newSpeed = GameSpeedCalculator.calculateSpeed(level);
-            timeLine.stop();
-            timeLine.getKeyFrames().clear();
-            timeLine.getKeyFrames().add(new KeyFrame(
-                Duration.millis(newSpeed),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-            ));
-            if (isPause.getValue() == Boolean.FALSE && isGameOver.getValue() == Boolean.FALSE) {
-                timeLine.play();
-            }
-        }
-    }
-
     /**
      * Checks if the current score beats the high score and updates display
      */
@@ -332,8 +351,11 @@ public class GuiController implements Initializable {
         }
     }
 
+    public boolean isGameOver() {
+        return isGameOver.getValue();
+    }
+
     public void gameOver(int currentScore) {
-        stopTimeline();
         audioManager.stopGameMusic();
 
         // Check if this is a new high score
@@ -355,7 +377,6 @@ public class GuiController implements Initializable {
 
     public void newGame(ActionEvent actionEvent) {
         audioManager.playButtonSound();
-        stopTimeline();
 
         // Only restart music if coming from game over (not from pause menu)
         if (isGameOver.getValue() == Boolean.TRUE) {
@@ -370,7 +391,6 @@ public class GuiController implements Initializable {
         menuManager.hideAllMenus();
         eventListener.createNewGame();
         gamePanel.requestFocus();
-        playTimeline();
     }
 
     public void pauseGame(ActionEvent actionEvent) {
@@ -395,24 +415,6 @@ public class GuiController implements Initializable {
         gamePanel.requestFocus();
     }
 
-    /**
-     * Safely stops the timeline if it exists.
-     */
-    private void stopTimeline() {
-        if (timeLine != null) {
-            timeLine.stop();
-        }
-    }
-
-    /**
-     * Safely plays the timeline if it exists.
-     */
-    private void playTimeline() {
-        if (timeLine != null) {
-            timeLine.play();
-        }
-    }
-
     /**
      * Helper method to set font on a Text element with null checking.
      */
@@ -1,5 +1,9 @@
-package com.comp2042.game.events;
-import com.comp2042.ui.controllers.GuiController;
+package com.comp2042.ui.controllers;
+
+import com.comp2042.game.events.EventSource;
+import com.comp2042.game.events.EventType;
+import com.comp2042.game.events.InputEventListener;
+import com.comp2042.game.events.MoveEvent;
 
 import javafx.beans.property.BooleanProperty;
 import javafx.event.EventHandler;
@@ -11,7 +15,7 @@ import java.util.Set;
 
 /**
  * Handles keyboard input for the game.
- * Processes player controls (movement, rotation, drop) and game controls (pause, new game).
+ * Processes player controls (movement, rotation, drop) and game controls (pause, new game, theme).
  */
 public class KeyInputHandler implements EventHandler<KeyEvent> {
 
@@ -65,31 +69,39 @@ public class KeyInputHandler implements EventHandler<KeyEvent> {
         KeyCode code = keyEvent.getCode();
 
         if (code == KeyCode.LEFT || code == KeyCode.A) {
-            guiController.refreshBrick(eventListener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER)));
+            eventListener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
             keyEvent.consume();
         } else if (code == KeyCode.RIGHT || code == KeyCode.D) {
-            guiController.refreshBrick(eventListener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER)));
+            eventListener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER));
             keyEvent.consume();
         } else if (code == KeyCode.UP || code == KeyCode.W) {
-            guiController.refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER)));
+            eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER));
+            keyEvent.consume();
+        } else if (code == KeyCode.X) {
+            eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE_CLOCKWISE, EventSource.USER));
+            keyEvent.consume();
+        } else if (code == KeyCode.C) {
+            eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE_HALF_TURN, EventSource.USER));
             keyEvent.consume();
         } else if (code == KeyCode.DOWN || code == KeyCode.S) {
-            guiController.moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
+            eventListener.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.USER));
             keyEvent.consume();
         } else if (code == KeyCode.SPACE) {
-            guiController.hardDrop();
+            eventListener.onHardDropEvent();
             keyEvent.consume();
         }
     }
 
     /**
-     * Handles menu and control inputs (pause, new game)
+     * Handles menu and control inputs (pause, new game, colour theme)
      */
     private void handleMenuInput(KeyEvent keyEvent) {
         KeyCode code = keyEvent.getCode();
 
         if (code == KeyCode.N) {
             guiController.newGame(null);
+        } else if (code == KeyCode.T) {
+            guiController.cycleTheme();
         } else if (code == KeyCode.ESCAPE) {
             guiController.togglePause();
             keyEvent.consume();
@@ -0,0 +1,98 @@
+package com.comp2042.ui.controllers;
+
+import com.comp2042.game.models.Board;
+import com.comp2042.game.models.GameSession;
+import com.comp2042.game.models.ViewData;
+import com.comp2042.ui.renderers.BoardRenderer;
+import com.comp2042.utils.GameConstants;
+
+import javafx.scene.layout.GridPane;
+
+/**
+ * Encapsulates all game state for a single player in two-player mode.
+ * This class groups together all the components needed to manage one player's game board,
+ * including the game session, UI panels, board renderer, score publisher and
+ * the last snapshot state shown.
+ */
+public class PlayerGameState {
+    private final int playerNumber;
+    private final GameSession session;
+    private final ScorePublisher scorePublisher;
+    private final GridPane gamePanel;
+    private final GridPane brickPanel;
+    private final GridPane nextBrickPanel;
+
+    private BoardRenderer renderer;
+    private int shownLandings;
+    private int shownClears;
+    private int shownHardDrops;
+    private ViewData shownView;
+
+    /**
+     * Creates a new player game state.
+     *
+     * @param playerNumber The player number (1 or 2)
+     * @param session The game session for this player
+     * @param gamePanel The grid panel displaying the game board
+     * @param brickPanel The grid panel displaying the current brick
+     * @param nextBrickPanel The grid panel displaying the next brick preview
+     */
+    public PlayerGameState(int playerNumber, GameSession session, GridPane gamePanel,
+                          GridPane brickPanel, GridPane nextBrickPanel) {
+        this.playerNumber = playerNumber;
+        this.session = session;
+        this.scorePublisher = new ScorePublisher();
+        this.gamePanel = gamePanel;
+        this.brickPanel = brickPanel;
+        this.nextBrickPanel = nextBrickPanel;
+    }
+
+    // Getters
+    public int getPlayerNumber() { return playerNumber; }
+    public GameSession getSession() { return session; }
+    public Board getBoard() { return session.getBoard(); }
+    public ScorePublisher getScorePublisher() { return scorePublisher; }
+    public GridPane getGamePanel() { return gamePanel; }
+    public GridPane getBrickPanel() { return brickPanel; }
+    public GridPane getNextBrickPanel() { return nextBrickPanel; }
+    public BoardRenderer getRenderer() { return renderer; }
+    public int getShownLandings() { return shownLandings; }
+    public int getShownClears() { return shownClears; }
+    public int getShownHardDrops() { return shownHardDrops; }
+    public ViewData getShownView() { return shownView; }
+
+    // Setters
+    public void setRenderer(BoardRenderer renderer) {
+        this.renderer = renderer;
+    }
+
+    public void setShownLandings(int shownLandings) {
+        this.shownLandings = shownLandings;
+    }
+
+    public void setShownClears(int shownClears) {
+        this.shownClears = shownClears;
+    }
+
+    public void setShownHardDrops(int shownHardDrops) {
+        this.shownHardDrops = shownHardDrops;
+    }
+
+    public void setShownView(ViewData shownView) {
+        this.shownView = shownView;
+    }
+
+    /**
+     * Gets the base X coordinate for this player's board based on game constants.
+     */
+    public double getBaseX() {
+        return (playerNumber == 1) ? GameConstants.PLAYER1_BASE_X : GameConstants.PLAYER2_BASE_X;
+    }
+
+    /**
+     * Gets the base Y coordinate for this player's board based on game constants.
+     */
+    public double getBaseY() {
+        return (playerNumber == 1) ? GameConstants.PLAYER1_BASE_Y : GameConstants.PLAYER2_BASE_Y;
+    }
+}
@@ -0,0 +1,46 @@
+package com.comp2042.ui.controllers;
+
+import com.comp2042.game.simulation.BoardSnapshot;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+/**
+ * Publishes the score counters of a board snapshot to JavaFX properties.
+ * Called once per frame with the latest snapshot, so bound labels and listeners
+ * see at most one change per pulse instead of one per score update.
+ */
+public class ScorePublisher {
+
+    private final IntegerProperty scoreProperty = new SimpleIntegerProperty(0);
+    private final IntegerProperty linesClearedProperty = new SimpleIntegerProperty(0);
+    private final IntegerProperty levelProperty = new SimpleIntegerProperty(1);
+
+    /**
+     * Copies any changed counters to their properties.
+     */
+    public void publish(BoardSnapshot snapshot) {
+        if (scoreProperty.get() != snapshot.getScore()) {
+            scoreProperty.set(snapshot.getScore());
+        }
+        if (linesClearedProperty.get() != snapshot.getLinesCleared()) {
+            linesClearedProperty.set(snapshot.getLinesCleared());
+        }
+        if (levelProperty.get() != snapshot.getLevel()) {
+            levelProperty.set(snapshot.getLevel());
+        }
+    }
+
+    public ReadOnlyIntegerProperty scoreProperty() {
+        return scoreProperty;
+    }
+
+    public ReadOnlyIntegerProperty linesClearedProperty() {
+        return linesClearedProperty;
+    }
+
+    public ReadOnlyIntegerProperty levelProperty() {
+        return levelProperty;
+    }
+}
@@ -0,0 +1,113 @@
+package com.comp2042.ui.controllers;
+
+import com.comp2042.game.models.BoardType;
+import com.comp2042.game.models.GameSession;
+import com.comp2042.game.simulation.BotPlayer;
+import com.comp2042.game.simulation.GameSimulation;
+import com.comp2042.game.simulation.GameSnapshot;
+import com.comp2042.logic.bricks.RandomizerType;
+import com.comp2042.logic.rotation.RotationSystem;
+import com.comp2042.ui.renderers.SpectatorWall;
+import com.comp2042.utils.GameConstants;
+import com.comp2042.utils.ScaleMode;
+import com.comp2042.utils.ThrottledTimer;
+
+import java.net.URL;
+import java.util.ResourceBundle;
+
+import javafx.fxml.FXML;
+import javafx.fxml.Initializable;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.KeyCode;
+import javafx.scene.layout.Pane;
+
+/**
+ * Shows a wall of boards played by bots, all driven by one simulation thread.
+ * A board that tops out starts over on its own while the others keep playing.
+ * The number of boards is set with {@code -Dtetris.spectatorBoards=<n>}, 64 by default.
+ * Board {@code i} and its bot play with seed {@code tetris.seed + i}, so a fixed seed
+ * replays the same wall while every board still gets its own brick sequence.
+ */
+public class SpectatorController implements Initializable {
+
+    private static final int DEFAULT_BOARDS = SpectatorWall.MAX_BOARDS;
+    // Space above the wall for the header
+    private static final int HEADER_HEIGHT = 30;
+
+    @FXML private Pane rootPane;
+
+    private GameSimulation simulation;
+    private SpectatorWall wall;
+    private BotPlayer[] bots;
+    // Runs every frame: draws new snapshots and lets the bots take their steps
+    private final ThrottledTimer framePump = new ThrottledTimer() {
+        @Override
+        protected void tick(long now) {
+            GameSnapshot snapshot = simulation.pollSnapshot();
+            if (snapshot == null) {
+                return;
+            }
+            wall.update(snapshot);
+            for (int i = 0; i < bots.length; i++) {
+                bots[i].play(snapshot.getBoard(i), simulation, now);
+            }
+        }
+    };
+
+    private Runnable modeSwitch;
+
+    @Override
+    public void initialize(URL location, ResourceBundle resources) {
+        int boards = Math.max(1, Math.min(Integer.getInteger("tetris.spectatorBoards", DEFAULT_BOARDS),
+                                          SpectatorWall.MAX_BOARDS));
+
+        wall = new SpectatorWall(boards, BoardType.ROWS, BoardType.COLUMNS, (int) GameConstants.SCENE_WIDTH,
+                                 (int) GameConstants.SCENE_HEIGHT - HEADER_HEIGHT);
+        ImageView wallView = new ImageView(wall.getImage());
+        wallView.setLayoutY(HEADER_HEIGHT);
+        // Whole pixels stay sharp when the window is scaled by whole numbers
+        wallView.setSmooth(!ScaleMode.fromSystemProperty().isPixelExact());
+        rootPane.getChildren().add(wallView);
+
+        BoardType boardType = BoardType.fromSystemProperty();
+        RotationSystem rotationSystem = RotationSystem.fromSystemProperty();
+        RandomizerType randomizer = RandomizerType.fromSystemProperty();
+        long baseSeed = RandomizerType.seedFromSystemProperty();
+        GameSession[] sessions = new GameSession[boards];
+        bots = new BotPlayer[boards];
+        for (int i = 0; i < boards; i++) {
+            long seed = baseSeed + i;
+            sessions[i] = new GameSession(boardType.createBoard(BoardType.ROWS, BoardType.COLUMNS, rotationSystem,
+                                                                randomizer.create(seed)));
+            sessions[i].start();
+            bots[i] = new BotPlayer(i, seed);
+        }
+
+        // From here on the sessions belong to the simulation thread
+        simulation = new GameSimulation(false, sessions);
+        simulation.start();
+        framePump.start();
+
+        rootPane.setFocusTraversable(true);
+        rootPane.requestFocus();
+        rootPane.setOnKeyPressed(keyEvent -> {
+            if (keyEvent.getCode() == KeyCode.ESCAPE) {
+                returnToHome();
+                keyEvent.consume();
+            }
+        });
+    }
+
+    public void setModeSwitch(Runnable modeSwitch) {
+        this.modeSwitch = modeSwitch;
+    }
+
+    private void returnToHome() {
+        framePump.stop();
+        simulation.shutdown();
+
+        if (modeSwitch != null) {
+            modeSwitch.run();
+        }
+    }
+}
@@ -3,8 +3,12 @@ package com.comp2042.ui.controllers;
 import com.comp2042.audio.AudioManager;
 import com.comp2042.game.events.*;
 import com.comp2042.game.models.*;
+import com.comp2042.game.simulation.BoardSnapshot;
+import com.comp2042.game.simulation.GameCommand;
+import com.comp2042.game.simulation.GameSimulation;
+import com.comp2042.game.simulation.GameSnapshot;
 import com.comp2042.ui.panels.*;
-import com.comp2042.ui.renderers.TwoPlayerRenderer;
+import com.comp2042.ui.renderers.RendererType;
 import com.comp2042.utils.*;
 
 import java.net.URL;
@@ -12,8 +16,7 @@ import java.util.HashSet;
 import java.util.ResourceBundle;
 import java.util.Set;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import javafx.beans.binding.BooleanBinding;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.event.EventHandler;
@@ -23,10 +26,8 @@ import javafx.scene.Group;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.GridPane;
-import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
-import javafx.util.Duration;
 
 public class TwoPlayerGuiController implements Initializable {
 
@@ -56,23 +57,49 @@ public class TwoPlayerGuiController implements Initializable {
     private PlayerGameState player1;
     private PlayerGameState player2;
 
+    // Single simulation thread driving both boards
+    private GameSimulation simulation;
+    private GameSnapshot shownSnapshot;
+    // Runs every frame: shows new snapshots and glides the bricks between gravity steps
+    private final ThrottledTimer framePump = new ThrottledTimer() {
+        @Override
+        protected void tick(long now) {
+            GameSnapshot snapshot = simulation.pollSnapshot();
+            if (snapshot != null) {
+                shownSnapshot = snapshot;
+                showSnapshot(1, snapshot.getBoard(0));
+                showSnapshot(2, snapshot.getBoard(1));
+            }
+            if (shownSnapshot != null) {
+                player1.getRenderer().setFallOffset(shownSnapshot.getBoard(0).getFallOffset(now));
+                player2.getRenderer().setFallOffset(shownSnapshot.getBoard(1).getFallOffset(now));
+            }
+            player1.getRenderer().animate(now);
+            player2.getRenderer().animate(now);
+        }
+    };
+
     private final BooleanProperty isPause = new SimpleBooleanProperty(false);
     private final BooleanProperty isGameOver = new SimpleBooleanProperty(false);
     private boolean gameInitialized = false;
+    // Kept in a field, bindings only hold their dependencies weakly
+    private BooleanBinding gameFrozen;
 
     private Runnable modeSwitch;
     private AudioManager audioManager;
-    private TwoPlayerRenderer renderer;
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        // Initialize audio manager and renderer
+        // Initialize audio manager
         audioManager = new AudioManager();
-        renderer = new TwoPlayerRenderer(rootPane, brickPanel1, brickPanel2);
 
         // Initialize fonts for all text elements
         initializeFonts();
 
+        // Few frames are needed while the game is paused or over
+        gameFrozen = isPause.or(isGameOver);
+        gameFrozen.addListener((obs, oldVal, newVal) -> framePump.setIdle(newVal));
+
         rootPane.setFocusTraversable(true);
         rootPane.requestFocus();
 
@@ -109,10 +136,19 @@ public class TwoPlayerGuiController implements Initializable {
         });
 
         // Initialize player game states
-        Board board1 = new SimpleBoard(25, 10);
-        Board board2 = new SimpleBoard(25, 10);
-        player1 = new PlayerGameState(1, board1, gamePanel1, brickPanel1, nextBrickPanel1);
-        player2 = new PlayerGameState(2, board2, gamePanel2, brickPanel2, nextBrickPanel2);
+        BoardType boardType = BoardType.fromSystemProperty();
+        GameSession session1 = new GameSession(boardType.createBoard(BoardType.ROWS, BoardType.COLUMNS));
+        GameSession session2 = new GameSession(boardType.createBoard(BoardType.ROWS, BoardType.COLUMNS));
+        player1 = new PlayerGameState(1, session1, gamePanel1, brickPanel1, nextBrickPanel1);
+        player2 = new PlayerGameState(2, session2, gamePanel2, brickPanel2, nextBrickPanel2);
+
+        // Both boards use the renderer selected at startup
+        RendererType rendererType = RendererType.fromSystemProperty();
+        for (PlayerGameState player : new PlayerGameState[] {player1, player2}) {
+            player.setRenderer(rendererType.create(player.getGamePanel(), player.getBrickPanel(),
+                                                   player.getNextBrickPanel(), rootPane,
+                                                   player.getBaseX(), player.getBaseY()));
+        }
 
         // Initialize panels
         initializePanels();
@@ -135,7 +171,7 @@ public class TwoPlayerGuiController implements Initializable {
             keyEvent.consume();
         }
         if (keyEvent.getCode() == KeyCode.S) {
-            moveDown(1, new MoveEvent(EventType.DOWN, EventSource.USER));
+            moveDown(1);
             keyEvent.consume();
         }
         if (keyEvent.getCode() == KeyCode.SPACE) {
@@ -158,7 +194,7 @@ public class TwoPlayerGuiController implements Initializable {
             keyEvent.consume();
         }
         if (keyEvent.getCode() == KeyCode.DOWN) {
-            moveDown(2, new MoveEvent(EventType.DOWN, EventSource.USER));
+            moveDown(2);
             keyEvent.consume();
         }
         if (keyEvent.getCode() == KeyCode.SHIFT) {
@@ -168,174 +204,90 @@ public class TwoPlayerGuiController implements Initializable {
     }
 
     public void initializeGame() {
-        player1.getBoard().createNewBrick();
-        initGameView(1, gamePanel1, brickPanel1, nextBrickPanel1, player1.getBoard());
-        bindScore(1, player1.getBoard().getScore());
+        player1.getSession().start();
+        initGameView(1, player1.getBoard());
+        bindScore(1, player1.getScorePublisher());
 
-        player2.getBoard().createNewBrick();
-        initGameView(2, gamePanel2, brickPanel2, nextBrickPanel2, player2.getBoard());
-        bindScore(2, player2.getBoard().getScore());
+        player2.getSession().start();
+        initGameView(2, player2.getBoard());
+        bindScore(2, player2.getScorePublisher());
+
+        // From here on the sessions belong to the simulation thread
+        simulation = new GameSimulation(player1.getSession(), player2.getSession());
+        simulation.start();
+        framePump.start();
 
         gameInitialized = true;
     }
 
-    private void initGameView(int player, GridPane gamePanel, GridPane brickPanel,
-                              GridPane nextBrickPanel, Board board) {
-        PlayerGameState playerState = getPlayerState(player);
-        int[][] boardMatrix = board.getBoardMatrix();
-        ViewData brick = board.getViewData();
-
-        // Use renderer to initialize all visual components
-        Rectangle[][] displayMatrix = renderer.initializeDisplayMatrix(gamePanel, boardMatrix);
-        playerState.setDisplayMatrix(displayMatrix);
-
-        double baseX = playerState.getBaseX();
-        double baseY = playerState.getBaseY();
-        Rectangle[][] rectangles = renderer.initializeBrickPanel(brickPanel, brick, baseX, baseY);
-        playerState.setRectangles(rectangles);
-
-        GridPane ghostBrickPanel = renderer.initializeGhostBrickPanel(brick);
-        Rectangle[][] ghostRectangles = renderer.initializeGhostRectangles(ghostBrickPanel, brick);
-        playerState.setGhostBrickPanel(ghostBrickPanel);
-        playerState.setGhostRectangles(ghostRectangles);
-
-        Rectangle[][] nextBrickRectangles = renderer.initializeNextBrickPanel(nextBrickPanel, brick.getNextBrickData());
-        playerState.setNextBrickRectangles(nextBrickRectangles);
-
-        // Create and start timeline
-        Timeline timeLine = new Timeline(new KeyFrame(
-                Duration.millis(400),
-                ae -> moveDown(player, new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        timeLine.play();
-        playerState.setTimeline(timeLine);
+    private void initGameView(int player, Board board) {
+        getPlayerState(player).getRenderer().initGameView(board.getBoardMatrix(), board.getViewData());
     }
 
     private void moveBrickLeft(int player) {
-        getPlayerState(player).getBoard().moveBrickLeft();
-        refreshBrick(player);
+        simulation.submit(player - 1, GameCommand.MOVE_LEFT);
     }
 
     private void moveBrickRight(int player) {
-        getPlayerState(player).getBoard().moveBrickRight();
-        refreshBrick(player);
+        simulation.submit(player - 1, GameCommand.MOVE_RIGHT);
     }
 
     private void rotateBrick(int player) {
-        getPlayerState(player).getBoard().rotateLeftBrick();
-        refreshBrick(player);
+        simulation.submit(player - 1, GameCommand.ROTATE_LEFT);
     }
 
-    private void moveDown(int player, MoveEvent event) {
-        if (isPause.getValue() == Boolean.TRUE || isGameOver.getValue() == Boolean.TRUE) {
-            return;
-        }
-
-        PlayerGameState playerState = getPlayerState(player);
-        Board board = playerState.getBoard();
-        boolean canMove = board.moveBrickDown();
-
-        if (!canMove) {
-            ClearRow clearRow = board.landBrickAndClearRows();
-            if (clearRow.getLinesRemoved() > 0) {
-                updateGameSpeed(player, board.getScore().levelProperty().get());
-            }
+    private void moveDown(int player) {
+        simulation.submit(player - 1, GameCommand.SOFT_DROP);
+    }
 
-            if (board.createNewBrick()) {
-                playerLost(player);
-                return;
-            }
+    private void hardDrop(int player) {
+        simulation.submit(player - 1, GameCommand.HARD_DROP);
+    }
 
-            refreshGameBackground(player);
-        } else {
-            if (event.getEventSource() == EventSource.USER) {
-                board.getScore().add(1);
+    /**
+     * Renders the parts of a player's board snapshot that changed since the last one shown.
+     */
+    private void showSnapshot(int player, BoardSnapshot board) {
+        PlayerGameState playerState = getPlayerState(player);
+        playerState.getScorePublisher().publish(board);
+        if (board.getLandings() != playerState.getShownLandings()) {
+            playerState.setShownLandings(board.getLandings());
+            // Move the drawn rows with every clear not shown yet, so only the remaining differences are repainted
+            int firstClear = Math.max(playerState.getShownClears() + 1, board.getFirstClear());
+            for (int clear = firstClear; clear <= board.getClears(); clear++) {
+                for (int i = 0; i < board.getClearedRowCount(clear); i++) {
+                    playerState.getRenderer().removeRow(board.getClearedRow(clear, i));
+                }
             }
+            playerState.setShownClears(board.getClears());
+            playerState.getRenderer().refreshGameBackground(board.getBoardMatrix());
         }
-        refreshBrick(player);
-        rootPane.requestFocus();
-    }
-
-    private void hardDrop(int player) {
-        if (isPause.getValue() == Boolean.TRUE || isGameOver.getValue() == Boolean.TRUE) {
-            return;
+        if (board.getHardDrops() != playerState.getShownHardDrops()) {
+            playerState.setShownHardDrops(board.getHardDrops());
+            playerState.getRenderer().showHardDrop(board.getLastHardDrop());
         }
-
-        Board board = getPlayerState(player).getBoard();
-        board.hardDrop();
-        ClearRow clearRow = board.landBrickAndClearRows();
-        if (clearRow.getLinesRemoved() > 0) {
-            updateGameSpeed(player, board.getScore().levelProperty().get());
+        if (board.getViewData() != playerState.getShownView()) {
+            playerState.setShownView(board.getViewData());
+            playerState.getRenderer().refreshBrick(board.getViewData());
         }
-
-        if (board.createNewBrick()) {
+        if (board.isGameOver() && isGameOver.getValue() == Boolean.FALSE) {
             playerLost(player);
-            return;
         }
-
-        refreshGameBackground(player);
-        refreshBrick(player);
-        rootPane.requestFocus();
-    }
-
-    private void refreshBrick(int player) {
-        PlayerGameState playerState = getPlayerState(player);
-        ViewData brick = playerState.getBoard().getViewData();
-
-        renderer.refreshBrick(player, brick, playerState.getRectangles(),
-                            playerState.getBaseX(), playerState.getBaseY());
-
-        GridPane brickPanel = (player == 1) ? brickPanel1 : brickPanel2;
-        renderer.updateGhostBrick(brick, playerState.getGhostBrickPanel(),
-                                playerState.getGhostRectangles(), brickPanel);
-        renderer.updateNextBrickPanel(brick.getNextBrickData(), playerState.getNextBrickRectangles());
-    }
-
-    private void refreshGameBackground(int player) {
-        PlayerGameState playerState = getPlayerState(player);
-        renderer.refreshGameBackground(playerState.getDisplayMatrix(),
-                                      playerState.getBoard().getBoardMatrix());
     }
 
-    private void bindScore(int player, Score score) {
+    private void bindScore(int player, ScorePublisher score) {
         if (player == 1) {
             scoreText1.textProperty().bind(score.scoreProperty().asString());
             levelText1.textProperty().bind(score.levelProperty().asString());
             linesText1.textProperty().bind(score.linesClearedProperty().asString());
-            score.levelProperty().addListener((obs, oldVal, newVal) -> {
-                updateGameSpeed(1, newVal.intValue());
-            });
         } else {
             scoreText2.textProperty().bind(score.scoreProperty().asString());
             levelText2.textProperty().bind(score.levelProperty().asString());
             linesText2.textProperty().bind(score.linesClearedProperty().asString());
-            score.levelProperty().addListener((obs, oldVal, newVal) -> {
-                updateGameSpeed(2, newVal.intValue());
-            });
-        }
-    }
-
-    private void updateGameSpeed(int player, int level) {
-        PlayerGameState playerState = getPlayerState(player);
-        Timeline timeLine = playerState.getTimeline();
-        if (timeLine != null) {
-            double newSpeed = GameSpeedCalculator.calculateSpeed(level);
-            timeLine.stop();
-            timeLine.getKeyFrames().clear();
-            timeLine.getKeyFrames().add(new KeyFrame(
-                Duration.millis(newSpeed),
-                ae -> moveDown(player, new MoveEvent(EventType.DOWN, EventSource.THREAD))
-            ));
-            if (isPause.getValue() == Boolean.FALSE && isGameOver.getValue() == Boolean.FALSE) {
-                timeLine.play();
-            }
         }
     }
 
     private void playerLost(int player) {
-        player1.stopTimeline();
-        player2.stopTimeline();
         audioManager.stopGameMusic();
 
         int winner = (player == 1) ? 2 : 1;
@@ -348,9 +300,6 @@ public class TwoPlayerGuiController implements Initializable {
     }
 
     public void newGame() {
-        player1.stopTimeline();
-        player2.stopTimeline();
-
         // Only restart music if coming from game over (not from pause menu)
         if (isGameOver.getValue() == Boolean.TRUE) {
             audioManager.stopGameOverMusic();
@@ -360,15 +309,7 @@ public class TwoPlayerGuiController implements Initializable {
         victoryPanel.setVisible(false);
         pausePanel.setVisible(false);
 
-        player1.getBoard().newGame();
-        player2.getBoard().newGame();
-        refreshGameBackground(1);
-        refreshGameBackground(2);
-        refreshBrick(1);
-        refreshBrick(2);
-
-        player1.playTimeline();
-        player2.playTimeline();
+        simulation.submit(GameCommand.NEW_GAME);
 
         isPause.setValue(Boolean.FALSE);
         isGameOver.setValue(Boolean.FALSE);
@@ -381,13 +322,11 @@ public class TwoPlayerGuiController implements Initializable {
         }
 
         if (isPause.getValue() == Boolean.FALSE) {
-            player1.pauseTimeline();
-            player2.pauseTimeline();
+            simulation.submit(GameCommand.PAUSE);
             isPause.setValue(Boolean.TRUE);
             pausePanel.setVisible(true);
         } else {
-            player1.playTimeline();
-            player2.playTimeline();
+            simulation.submit(GameCommand.RESUME);
             isPause.setValue(Boolean.FALSE);
             pausePanel.setVisible(false);
         }
@@ -407,8 +346,8 @@ public class TwoPlayerGuiController implements Initializable {
     }
 
     private void returnToHome() {
-        player1.stopTimeline();
-        player2.stopTimeline();
+        framePump.stop();
+        simulation.shutdown();
         audioManager.stopAllAudio();
 
         if (modeSwitch != null) {
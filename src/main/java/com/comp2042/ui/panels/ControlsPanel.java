@@ -57,9 +57,10 @@ public class ControlsPanel extends StackPane {
             "Move Left: LEFT ARROW or A\n" +
             "Move Right: RIGHT ARROW or D\n" +
             "Rotate: UP ARROW or W\n" +
+            "Rotate Clockwise: X   |   Rotate 180: C\n" +
             "Soft Drop: DOWN ARROW or S\n" +
             "Hard Drop: SPACE\n" +
-            "Pause: ESC"
+            "Pause: ESC   |   Colour Theme: T"
         );
         if (digitalFontSmall != null) {
             onePlayerControls.setFont(digitalFontSmall);
@@ -3,31 +3,49 @@ package com.comp2042.ui.panels;
 import javafx.animation.FadeTransition;
 import javafx.animation.ParallelTransition;
 import javafx.animation.TranslateTransition;
-import javafx.collections.ObservableList;
+import com.comp2042.utils.PowerManager;
+import com.comp2042.utils.QualityGovernor;
+
 import javafx.geometry.Pos;
-import javafx.scene.Node;
+import javafx.scene.CacheHint;
 import javafx.scene.control.Label;
 import javafx.scene.effect.Glow;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 import javafx.util.Duration;
 
+/**
+ * Score popup that floats up and fades out. A panel is built once with its label,
+ * effect and transitions and can be shown again any number of times, see {@link NotificationPool}.
+ */
 public class NotificationPanel extends StackPane {
 
-    public NotificationPanel(String text) {
+    /** Preferred width of a panel */
+    public static final double WIDTH = 230;
+
+    /** Preferred height of a panel */
+    public static final double HEIGHT = 100;
+
+    private final Label score;
+    private final Glow glow = new Glow(0.8);
+    private final ParallelTransition transition;
+    private int value;
+
+    public NotificationPanel() {
         // Set size to match game board area
-        setPrefSize(230, 100);
+        setPrefSize(WIDTH, HEIGHT);
         setAlignment(Pos.CENTER);
+        setVisible(false);
 
-        final Label score = new Label(text);
+        score = new Label();
         score.getStyleClass().add("bonusStyle");
-        score.setEffect(new Glow(0.8));
         score.setTextFill(Color.WHITE);
+        // Rasterise the glow once per text instead of on every animation frame
+        score.setCache(true);
+        score.setCacheHint(CacheHint.SPEED);
 
         getChildren().add(score);
-    }
 
-    public void showScore(ObservableList<Node> list) {
         FadeTransition ft = new FadeTransition(Duration.millis(1500), this);
         TranslateTransition tt = new TranslateTransition(Duration.millis(1500), this);
         tt.setFromY(0);
@@ -35,8 +53,33 @@ public class NotificationPanel extends StackPane {
         ft.setFromValue(1);
         ft.setToValue(0);
 
-        ParallelTransition transition = new ParallelTransition(tt, ft);
-        transition.setOnFinished(event -> list.remove(NotificationPanel.this));
-        transition.play();
+        transition = new ParallelTransition(tt, ft);
+        transition.setOnFinished(event -> setVisible(false));
+        PowerManager.register(transition);
+    }
+
+    /**
+     * Shows a score bonus, restarting the animation if the panel is already showing.
+     */
+    public void showScore(int scoreBonus) {
+        value = scoreBonus;
+        score.setText("+" + scoreBonus);
+        score.setEffect(QualityGovernor.getLevel().hasGlow() ? glow : null);
+        setVisible(true);
+        transition.playFromStart();
+    }
+
+    /**
+     * @return Whether the panel is playing its animation
+     */
+    public boolean isShowing() {
+        return isVisible();
+    }
+
+    /**
+     * @return The score bonus shown last
+     */
+    public int getValue() {
+        return value;
     }
 }
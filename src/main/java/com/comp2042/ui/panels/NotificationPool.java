@@ -0,0 +1,71 @@
+package com.comp2042.ui.panels;
+
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+
+/**
+ * Fixed set of {@link NotificationPanel}s that score popups are shown on.
+ * The panels are created and added to the scene once; showing a popup only
+ * restarts a hidden panel, so rapid row clears do not build new nodes,
+ * effects or transitions.
+ */
+public class NotificationPool {
+
+    /** What to do with a popup when every panel is already showing */
+    public enum OverflowPolicy {
+        /** Add the bonus to the newest popup and restart it */
+        MERGE,
+        /** Do not show the popup */
+        DROP
+    }
+
+    private final NotificationPanel[] panels;
+    private final OverflowPolicy overflowPolicy;
+    private int newest = -1;
+
+    /**
+     * @param parent The children list the panels are added to
+     * @param maxPopups The most popups shown at the same time
+     * @param overflowPolicy What to do with popups beyond the limit
+     */
+    public NotificationPool(ObservableList<Node> parent, int maxPopups, OverflowPolicy overflowPolicy) {
+        if (maxPopups < 1) {
+            throw new IllegalArgumentException("At least one popup is needed, got " + maxPopups);
+        }
+        this.overflowPolicy = overflowPolicy;
+        panels = new NotificationPanel[maxPopups];
+        for (int i = 0; i < maxPopups; i++) {
+            panels[i] = new NotificationPanel();
+            parent.add(panels[i]);
+        }
+    }
+
+    /**
+     * Shows a score bonus popup at a position.
+     *
+     * @param scoreBonus The bonus to show
+     * @param x Layout x of the popup
+     * @param y Layout y of the popup
+     */
+    public void show(int scoreBonus, double x, double y) {
+        for (int i = 0; i < panels.length; i++) {
+            if (!panels[i].isShowing()) {
+                show(i, scoreBonus, x, y);
+                return;
+            }
+        }
+        if (overflowPolicy == OverflowPolicy.MERGE) {
+            show(newest, panels[newest].getValue() + scoreBonus, x, y);
+        }
+    }
+
+    private void show(int index, int scoreBonus, double x, double y) {
+        NotificationPanel panel = panels[index];
+        panel.setLayoutX(x);
+        panel.setLayoutY(y);
+        // Keep the newest popup in front of the ones still fading out
+        panel.toFront();
+        panel.showScore(scoreBonus);
+        newest = index;
+    }
+}
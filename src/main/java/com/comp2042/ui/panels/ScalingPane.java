@@ -0,0 +1,65 @@
+package com.comp2042.ui.panels;
+
+import com.comp2042.utils.GameConstants;
+import com.comp2042.utils.ScaleMode;
+
+import javafx.scene.Parent;
+import javafx.scene.layout.Pane;
+import javafx.scene.transform.Scale;
+
+/**
+ * Window-sized pane that shows a game layout of fixed logical size, scaled and centered.
+ * The layout keeps its size of {@link GameConstants#SCENE_WIDTH} by {@link GameConstants#SCENE_HEIGHT}
+ * and all positions inside it stay in logical units; resizing the window only changes
+ * one Scale transform, so no cells are rebuilt and nothing inside the layout is laid out again.
+ */
+public class ScalingPane extends Pane {
+
+    private final ScaleMode scaleMode;
+    private final Scale scale = new Scale(1, 1, 0, 0);
+    private Parent content;
+
+    public ScalingPane(ScaleMode scaleMode) {
+        this.scaleMode = scaleMode;
+    }
+
+    /**
+     * Replaces the layout shown, e.g. when switching game modes.
+     */
+    public void setContent(Parent newContent) {
+        if (content != null) {
+            content.getTransforms().remove(scale);
+        }
+        content = newContent;
+        content.getTransforms().add(scale);
+        getChildren().setAll(content);
+    }
+
+    public Parent getContent() {
+        return content;
+    }
+
+    /**
+     * @return The factor currently applied to the layout
+     */
+    public double getScale() {
+        return scale.getX();
+    }
+
+    @Override
+    protected void layoutChildren() {
+        if (content == null) {
+            return;
+        }
+        // The layout keeps its logical size, only the transform follows the window
+        content.resizeRelocate(0, 0, GameConstants.SCENE_WIDTH, GameConstants.SCENE_HEIGHT);
+        double factor = scaleMode.getScale(getWidth(), getHeight());
+        if (factor != scale.getX()) {
+            scale.setX(factor);
+            scale.setY(factor);
+        }
+        // Round the offset so integer factors land logical pixels on screen pixels
+        content.relocate(Math.floor((getWidth() - GameConstants.SCENE_WIDTH * factor) / 2),
+                         Math.floor((getHeight() - GameConstants.SCENE_HEIGHT * factor) / 2));
+    }
+}
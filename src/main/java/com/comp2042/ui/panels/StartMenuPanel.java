@@ -2,18 +2,22 @@ package com.comp2042.ui.panels;
 
 import com.comp2042.audio.AudioManager;
 import com.comp2042.utils.GameConstants;
+import com.comp2042.utils.QualityGovernor;
+import com.comp2042.utils.ThrottledTimer;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
 
-import javafx.animation.Animation;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import javafx.geometry.Bounds;
 import javafx.geometry.Pos;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Group;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.effect.GaussianBlur;
+import javafx.scene.image.WritableImage;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
@@ -23,28 +27,46 @@ import javafx.scene.paint.Color;
 import javafx.scene.paint.LinearGradient;
 import javafx.scene.paint.Stop;
 import javafx.scene.shape.Rectangle;
-import javafx.util.Duration;
 
 /**
  * Start menu panel displayed when the game launches.
  * Features animated falling Tetris pieces in the background.
+ * The pieces are drawn onto one canvas from sprites rendered once per piece type and
+ * depth, blur included, and a piece that falls off screen is reused as a new one.
  */
 public class StartMenuPanel extends StackPane {
 
     private final Button playButton;
     private final Button twoPlayerButton;
+    private final Button spectateButton;
     private final Button controlsButton;
     private final Button quitButton;
+    private static final int NUM_PIECES = 25;
+    // Depths a piece can have; each has its own sprite per piece type
+    private static final int DEPTH_BUCKETS = 8;
+    // Pieces move this many pixels per second for each unit of speed
+    private static final double PIXELS_PER_SECOND = 20;
+    // Frames further apart than this, e.g. after a stall, move the pieces this far
+    private static final double MAX_STEP_SECONDS = 0.1;
+
     private final Pane backgroundPane;
-    private final List<FallingPiece> fallingPieces;
+    private final Canvas piecesCanvas;
+    private final FallingPiece[] fallingPieces;
     private final Random random;
-    private Timeline animationTimeline;
+    // Sprite of each piece type at each depth, and where it is drawn relative to the piece
+    private final WritableImage[][] sprites;
+    private final double[][] spriteOffsetX;
+    private final double[][] spriteOffsetY;
+    // The same sprites without blur, for when the quality level drops it
+    private final WritableImage[][] sharpSprites;
+    private final ThrottledTimer animationTimer;
+    private long lastFrameNanos;
     private MediaPlayer backgroundMusic;
 
     public StartMenuPanel() {
         this.setPrefSize(800, 600);
         this.random = new Random();
-        this.fallingPieces = new ArrayList<>();
+        this.fallingPieces = new FallingPiece[NUM_PIECES];
 
         // Create gradient background
         backgroundPane = new Pane();
@@ -60,6 +82,10 @@ public class StartMenuPanel extends StackPane {
         gradientRect.setFill(gradient);
         backgroundPane.getChildren().add(gradientRect);
 
+        // Every falling piece is drawn onto this canvas above the gradient
+        piecesCanvas = new Canvas(800, 600);
+        backgroundPane.getChildren().add(piecesCanvas);
+
         // Create menu content
         VBox menuBox = new VBox(20);
         menuBox.setAlignment(Pos.CENTER);
@@ -76,6 +102,10 @@ public class StartMenuPanel extends StackPane {
         twoPlayerButton.getStyleClass().add("ipad-dark-grey");
         twoPlayerButton.setPrefWidth(200);
 
+        spectateButton = new Button("SPECTATE");
+        spectateButton.getStyleClass().add("ipad-dark-grey");
+        spectateButton.setPrefWidth(200);
+
         controlsButton = new Button("CONTROLS");
         controlsButton.getStyleClass().add("ipad-dark-grey");
         controlsButton.setPrefWidth(200);
@@ -84,14 +114,31 @@ public class StartMenuPanel extends StackPane {
         quitButton.getStyleClass().add("ipad-dark-grey");
         quitButton.setPrefWidth(200);
 
-        menuBox.getChildren().addAll(titleLabel, playButton, twoPlayerButton, controlsButton, quitButton);
+        menuBox.getChildren().addAll(titleLabel, playButton, twoPlayerButton, spectateButton, controlsButton, quitButton);
 
         // Stack background behind menu
         this.getChildren().addAll(backgroundPane, menuBox);
 
         // Initialize falling pieces
+        int types = GameConstants.TETROMINOES.length;
+        sprites = new WritableImage[types][DEPTH_BUCKETS];
+        spriteOffsetX = new double[types][DEPTH_BUCKETS];
+        spriteOffsetY = new double[types][DEPTH_BUCKETS];
+        sharpSprites = new WritableImage[types][DEPTH_BUCKETS];
+        initializeSprites();
         initializeFallingPieces();
-        startAnimation();
+        animationTimer = new ThrottledTimer() {
+            @Override
+            protected void tick(long now) {
+                updatePieces(now);
+            }
+        };
+
+        // Nothing to animate while a game or another menu covers the start menu,
+        // or once the layout holding it has been replaced
+        visibleProperty().addListener((obs, oldVal, newVal) -> updateAnimation());
+        sceneProperty().addListener((obs, oldVal, newVal) -> updateAnimation());
+        updateAnimation();
 
         // Initialize background music
         initializeBackgroundMusic();
@@ -110,34 +157,54 @@ public class StartMenuPanel extends StackPane {
         }
     }
 
-    private void initializeFallingPieces() {
-        // Create initial pieces spread evenly across the screen
-        int numPieces = 25;
-        for (int i = 0; i < numPieces; i++) {
-            FallingPiece piece = createRandomPiece();
-            // Spread pieces evenly across the screen height plus some above
-            piece.y = -100 + (i * (610.0 / numPieces)) + random.nextDouble() * 30;
-            piece.pane.setLayoutY(piece.y);
-            fallingPieces.add(piece);
-            backgroundPane.getChildren().add(piece.pane);
+    /**
+     * Renders every piece type at every depth once, applying the blur of close pieces to the sprite.
+     * Blurred pieces also get a sharp sprite, drawn in place of the blurred one at the same position.
+     */
+    private void initializeSprites() {
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        for (int type = 0; type < sprites.length; type++) {
+            for (int bucket = 0; bucket < DEPTH_BUCKETS; bucket++) {
+                Group piece = createPieceShape(type, bucketDepth(bucket));
+                // The blur spreads past the blocks, so the sprite starts above and left of the piece
+                Bounds bounds = piece.getBoundsInParent();
+                sprites[type][bucket] = piece.snapshot(parameters, null);
+                spriteOffsetX[type][bucket] = bounds.getMinX();
+                spriteOffsetY[type][bucket] = bounds.getMinY();
+                sharpSprites[type][bucket] = sprites[type][bucket];
+                if (piece.getEffect() != null) {
+                    piece.setEffect(null);
+                    WritableImage sharp = new WritableImage((int) sprites[type][bucket].getWidth(),
+                                                            (int) sprites[type][bucket].getHeight());
+                    SnapshotParameters sharpParameters = new SnapshotParameters();
+                    sharpParameters.setFill(Color.TRANSPARENT);
+                    sharpParameters.setViewport(new Rectangle2D(bounds.getMinX(), bounds.getMinY(),
+                                                                sharp.getWidth(), sharp.getHeight()));
+                    sharpSprites[type][bucket] = piece.snapshot(sharpParameters, sharp);
+                }
+            }
         }
     }
 
-    private FallingPiece createRandomPiece() {
-        int type = random.nextInt(GameConstants.TETROMINOES.length);
+    /**
+     * Gets the depth the pieces of a depth bucket are drawn at (0 = far/small, 1 = close/large)
+     */
+    private static double bucketDepth(int bucket) {
+        return (bucket + 0.5) / DEPTH_BUCKETS;
+    }
+
+    private Group createPieceShape(int type, double depth) {
         int[][] shape = GameConstants.TETROMINOES[type];
         Color baseColor = GameConstants.TETROMINO_COLORS[type];
 
-        // Random depth (0 = far/small, 1 = close/large)
-        double depth = random.nextDouble();
-
         // Scale based on depth (10-25 pixels per block) - larger pieces
         double blockSize = 10 + depth * 15;
 
         // Opacity based on depth (more visible overall)
         double opacity = 0.3 + (1 - depth) * 0.4;
 
-        Pane piecePane = new Pane();
+        Group piece = new Group();
 
         for (int row = 0; row < shape.length; row++) {
             for (int col = 0; col < shape[row].length; col++) {
@@ -148,67 +215,82 @@ public class StartMenuPanel extends StackPane {
                     block.setArcHeight(blockSize * 0.3);
                     block.setX(col * (blockSize + 1));
                     block.setY(row * (blockSize + 1));
-                    piecePane.getChildren().add(block);
+                    piece.getChildren().add(block);
                 }
             }
         }
 
         // Apply blur for foreground pieces (larger = closer = more blur)
         if (depth > 0.6) {
-            piecePane.setEffect(new GaussianBlur(depth * 3));
+            piece.setEffect(new GaussianBlur(depth * 3));
+        }
+        return piece;
+    }
+
+    private void initializeFallingPieces() {
+        // Create initial pieces spread evenly across the screen
+        for (int i = 0; i < NUM_PIECES; i++) {
+            FallingPiece piece = new FallingPiece();
+            resetPiece(piece);
+            // Spread pieces evenly across the screen height plus some above
+            piece.y = -100 + (i * (610.0 / NUM_PIECES)) + random.nextDouble() * 30;
+            fallingPieces[i] = piece;
         }
+    }
 
-        FallingPiece piece = new FallingPiece();
-        piece.pane = piecePane;
+    /**
+     * Turns a piece into a new random one above the screen
+     */
+    private void resetPiece(FallingPiece piece) {
+        piece.type = random.nextInt(sprites.length);
+        // Random depth (0 = far/small, 1 = close/large)
+        piece.bucket = random.nextInt(DEPTH_BUCKETS);
+        double depth = bucketDepth(piece.bucket);
         piece.x = random.nextDouble() * 750;  // Updated for 800px width
         piece.y = -50 - random.nextDouble() * 100; // Start above screen
         piece.speed = 0.3 + depth * 0.7; // Faster when closer (parallax)
-        piece.depth = depth;
-
-        piecePane.setLayoutX(piece.x);
-        piecePane.setLayoutY(piece.y);
-
-        return piece;
     }
 
-    private void startAnimation() {
-        animationTimeline = new Timeline(new KeyFrame(
-            Duration.millis(50),
-            e -> updatePieces()
-        ));
-        animationTimeline.setCycleCount(Animation.INDEFINITE);
-        animationTimeline.play();
-    }
+    private void updatePieces(long now) {
+        double seconds = lastFrameNanos == 0 ? 0 : Math.min((now - lastFrameNanos) / 1e9, MAX_STEP_SECONDS);
+        lastFrameNanos = now;
 
-    private void updatePieces() {
-        for (int i = 0; i < fallingPieces.size(); i++) {
-            FallingPiece piece = fallingPieces.get(i);
-            piece.y += piece.speed;
-            piece.pane.setLayoutY(piece.y);
+        GraphicsContext gc = piecesCanvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, piecesCanvas.getWidth(), piecesCanvas.getHeight());
+        WritableImage[][] shown = QualityGovernor.getLevel().hasBlur() ? sprites : sharpSprites;
+        for (FallingPiece piece : fallingPieces) {
+            piece.y += piece.speed * PIXELS_PER_SECOND * seconds;
 
-            // Reset piece when it goes off screen (updated for 600px height)
+            // Reuse the piece when it goes off screen (updated for 600px height)
             if (piece.y > 610) {
-                backgroundPane.getChildren().remove(piece.pane);
-                FallingPiece newPiece = createRandomPiece();
-                fallingPieces.set(i, newPiece);
-                backgroundPane.getChildren().add(newPiece.pane);
+                resetPiece(piece);
             }
+            gc.drawImage(shown[piece.type][piece.bucket],
+                         piece.x + spriteOffsetX[piece.type][piece.bucket],
+                         piece.y + spriteOffsetY[piece.type][piece.bucket]);
         }
     }
 
-    public void stopAnimation() {
-        if (animationTimeline != null) {
-            animationTimeline.stop();
+    private void updateAnimation() {
+        if (isVisible() && getScene() != null) {
+            animationTimer.start();
+        } else {
+            animationTimer.stop();
+            lastFrameNanos = 0;
         }
+    }
+
+    public void stopAnimation() {
+        animationTimer.stop();
+        // Do not jump the pieces by the time spent stopped
+        lastFrameNanos = 0;
         if (backgroundMusic != null) {
             backgroundMusic.pause();
         }
     }
 
     public void resumeAnimation() {
-        if (animationTimeline != null) {
-            animationTimeline.play();
-        }
+        updateAnimation();
         if (backgroundMusic != null) {
             backgroundMusic.play();
         }
@@ -228,6 +310,10 @@ public class StartMenuPanel extends StackPane {
         return twoPlayerButton;
     }
 
+    public Button getSpectateButton() {
+        return spectateButton;
+    }
+
     public Button getControlsButton() {
         return controlsButton;
     }
@@ -238,10 +324,10 @@ public class StartMenuPanel extends StackPane {
 
     // Inner class to track falling piece data
     private static class FallingPiece {
-        Pane pane;
+        int type;
+        int bucket;
         double x;
         double y;
         double speed;
-        double depth;
     }
 }
@@ -0,0 +1,77 @@
+package com.comp2042.ui.renderers;
+
+import com.comp2042.game.models.ViewData;
+
+/**
+ * Draws one player's board: the settled cells, the falling brick, its ghost and the next brick preview.
+ */
+public interface BoardRenderer {
+
+    /**
+     * Creates the visual components for a board and draws its initial state.
+     *
+     * @param boardMatrix The settled cells of the board, including the hidden rows
+     * @param brick The falling brick and the next brick
+     */
+    void initGameView(int[][] boardMatrix, ViewData brick);
+
+    /**
+     * Redraws the falling brick, its ghost and the next brick preview.
+     */
+    void refreshBrick(ViewData brick);
+
+    /**
+     * Draws the falling brick part of the way down to the next row, so it moves
+     * smoothly between gravity steps. Called every frame; the offset is kept until
+     * the next call, including across {@link #refreshBrick(ViewData)}.
+     *
+     * @param rows Offset below the brick's row, from 0 to 1
+     */
+    void setFallOffset(double rows);
+
+    /**
+     * Advances running animations, such as the flash of cleared rows and their particles, to a frame time.
+     * Called every frame.
+     *
+     * @param nanoTime The frame time in nanoseconds
+     */
+    void animate(long nanoTime);
+
+    /**
+     * Redraws the settled cells of the board that changed since they were last drawn.
+     *
+     * @param board The settled cells, including the hidden rows
+     */
+    void refreshGameBackground(int[][] board);
+
+    /**
+     * Repaints everything already drawn with the current colours,
+     * e.g. after the {@link com.comp2042.utils.ColorTheme} changed.
+     */
+    void repaint();
+
+    /**
+     * Shifts the drawn cells for a cleared row: every row above it moves down by one,
+     * and the row as it was drawn starts its clear animation.
+     * Called once per cleared row, clear by clear and in ascending order within a clear, before the next
+     * {@link #refreshGameBackground(int[][])}, which then only touches the cells that
+     * still differ. Renderers that cannot move drawn rows only animate.
+     *
+     * @param row Index of the cleared row, as it was before the clear
+     */
+    void removeRow(int row);
+
+    /**
+     * Plays the impact of a hard drop where the brick landed.
+     * Called after the landing's {@link #removeRow(int)} calls.
+     *
+     * @param brick The brick as it was before the drop; its ghost position is where it landed
+     */
+    void showHardDrop(ViewData brick);
+
+    /**
+     * Gets the total number of board cells repainted so far.
+     * Sample it once per frame and take the difference for the cells repainted per frame.
+     */
+    long getRepaintedCells();
+}
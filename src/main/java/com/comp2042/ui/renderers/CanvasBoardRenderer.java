@@ -0,0 +1,264 @@
+package com.comp2042.ui.renderers;
+
+import com.comp2042.game.models.ViewData;
+import com.comp2042.utils.BrickColorManager;
+import com.comp2042.utils.GameConstants;
+import com.comp2042.utils.QualityGovernor;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.GridPane;
+import javafx.scene.paint.Color;
+
+/**
+ * Draws a board onto Canvas layers instead of a grid of Rectangle nodes.
+ * The settled cells are painted into a background canvas that is only updated where
+ * cells changed, the ghost and falling brick into a canvas stacked above it and the
+ * next brick into a third one, and row-clear flashes and particles onto a top effects layer.
+ * A refresh only adds draw commands instead of restyling scene-graph nodes.
+ * Bricks are copied from the {@link SpriteAtlas} in one draw call each.
+ */
+public class CanvasBoardRenderer implements BoardRenderer {
+
+    private static final double CELL = GameConstants.BRICK_SIZE + GameConstants.BRICK_GAP;
+    private static final double ARC = 9;
+
+    private final GridPane gamePanel;
+    private final GridPane nextBrickPanel;
+
+    private Canvas boardCanvas;
+    private Canvas brickCanvas;
+    private Canvas previewCanvas;
+    // Top layer for clear animations, cleared only after frames that drew on it
+    private Canvas effectsCanvas;
+    private ClearAnimation clearAnimation;
+    private ParticleSystem particles;
+    private boolean effectsDrawn;
+
+    // Settled cells as last painted into boardCanvas
+    private int[][] background;
+    private long repaintedCells;
+    // Corner arc of the board cells, 0 when the quality level squares them
+    private double cellArc = ARC;
+    // Brick view and atlas last drawn, to skip layers whose inputs did not change
+    private ViewData shownBrick;
+    private SpriteAtlas shownAtlas;
+    private double fallOffset;
+
+    /**
+     * @param gamePanel The grid panel that holds the board canvas
+     * @param nextBrickPanel The grid panel that holds the preview canvas
+     */
+    public CanvasBoardRenderer(GridPane gamePanel, GridPane nextBrickPanel) {
+        this.gamePanel = gamePanel;
+        this.nextBrickPanel = nextBrickPanel;
+    }
+
+    @Override
+    public void initGameView(int[][] boardMatrix, ViewData brick) {
+        int rows = boardMatrix.length;
+        int columns = boardMatrix[0].length;
+        background = new int[rows][columns];
+
+        double width = columns * CELL - GameConstants.BRICK_GAP;
+        double height = (rows - GameConstants.HIDDEN_ROWS) * CELL - GameConstants.BRICK_GAP;
+        boardCanvas = new Canvas(width, height);
+        brickCanvas = new Canvas(width, height);
+        effectsCanvas = new Canvas(width, height);
+        gamePanel.add(boardCanvas, 0, 0);
+        gamePanel.add(brickCanvas, 0, 0);
+        gamePanel.add(effectsCanvas, 0, 0);
+        clearAnimation = new ClearAnimation(columns);
+        particles = new ParticleSystem(width, height);
+
+        previewCanvas = new Canvas(SpriteAtlas.SPRITE_SIZE, SpriteAtlas.SPRITE_SIZE);
+        nextBrickPanel.add(previewCanvas, 0, 0);
+
+        refreshGameBackground(boardMatrix);
+        refreshBrick(brick);
+    }
+
+    @Override
+    public void refreshBrick(ViewData brick) {
+        SpriteAtlas atlas = SpriteAtlas.current();
+        boolean atlasChanged = atlas != shownAtlas;
+        boolean brickChanged = atlasChanged
+                || !brick.hasSameBrick(shownBrick)
+                || brick.getxPosition() != shownBrick.getxPosition()
+                || brick.getyPosition() != shownBrick.getyPosition()
+                || brick.getGhostYPosition() != shownBrick.getGhostYPosition();
+        boolean nextChanged = atlasChanged || !brick.hasSameNextBrick(shownBrick);
+        shownBrick = brick;
+        shownAtlas = atlas;
+
+        if (brickChanged) {
+            drawBrickLayer(atlas, brick);
+        }
+        if (nextChanged) {
+            drawPreview(atlas, brick);
+        }
+    }
+
+    @Override
+    public void setFallOffset(double rows) {
+        if (rows != fallOffset) {
+            fallOffset = rows;
+            if (shownBrick != null) {
+                drawBrickLayer(shownAtlas, shownBrick);
+            }
+        }
+    }
+
+    @Override
+    public void refreshGameBackground(int[][] board) {
+        GraphicsContext gc = boardCanvas.getGraphicsContext2D();
+        for (int i = GameConstants.HIDDEN_ROWS; i < board.length; i++) {
+            int[] row = board[i];
+            int[] shownRow = background[i];
+            for (int j = 0; j < row.length; j++) {
+                if (row[j] != shownRow[j]) {
+                    shownRow[j] = row[j];
+                    drawCell(gc, i, j, row[j]);
+                    repaintedCells++;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void repaint() {
+        GraphicsContext gc = boardCanvas.getGraphicsContext2D();
+        for (int i = GameConstants.HIDDEN_ROWS; i < background.length; i++) {
+            for (int j = 0; j < background[i].length; j++) {
+                drawCell(gc, i, j, background[i][j]);
+                repaintedCells++;
+            }
+        }
+        if (shownBrick != null) {
+            ViewData brick = shownBrick;
+            shownBrick = null;
+            refreshBrick(brick);
+        }
+    }
+
+    /**
+     * Drawn pixels cannot be moved without copying the canvas, so the rows shifted
+     * by a clear are left to the next background refresh. The cleared row as it
+     * was drawn is replayed on the effects layer.
+     */
+    @Override
+    public void removeRow(int row) {
+        if (row >= GameConstants.HIDDEN_ROWS) {
+            clearAnimation.start(row, background[row]);
+            particles.emitRowClear(row, background[row], CELL);
+        }
+    }
+
+    @Override
+    public void showHardDrop(ViewData brick) {
+        particles.emitHardDrop(brick, CELL);
+    }
+
+    @Override
+    public void animate(long nanoTime) {
+        double arc = QualityGovernor.getLevel().hasRoundedCells() ? ARC : 0;
+        if (arc != cellArc) {
+            cellArc = arc;
+            repaint();
+        }
+
+        GraphicsContext gc = effectsCanvas.getGraphicsContext2D();
+        if (effectsDrawn) {
+            gc.clearRect(0, 0, effectsCanvas.getWidth(), effectsCanvas.getHeight());
+            effectsDrawn = false;
+        }
+        for (int slot = 0; slot < ClearAnimation.SLOTS; slot++) {
+            double progress = clearAnimation.progress(slot, nanoTime);
+            if (progress < 0) {
+                continue;
+            }
+            // Fade the flash while squashing it into the row's center line
+            double height = GameConstants.BRICK_SIZE * (1 - progress);
+            double y = (clearAnimation.getRow(slot) - GameConstants.HIDDEN_ROWS) * CELL
+                       + (GameConstants.BRICK_SIZE - height) / 2;
+            gc.setGlobalAlpha(1 - progress);
+            for (int j = 0; j < background[0].length; j++) {
+                // Cells of the brick that completed the row may not have been drawn yet
+                int id = clearAnimation.getCell(slot, j);
+                gc.setFill(id != 0 ? BrickColorManager.getHighlight(id) : Color.WHITE);
+                fillCell(gc, j * CELL, y, height);
+            }
+            gc.setGlobalAlpha(1);
+            effectsDrawn = true;
+        }
+        particles.update(nanoTime);
+        if (particles.getCount() > 0) {
+            particles.draw(gc);
+            effectsDrawn = true;
+        }
+    }
+
+    @Override
+    public long getRepaintedCells() {
+        return repaintedCells;
+    }
+
+    /**
+     * Clears one cell of the background canvas and paints it if it is filled.
+     */
+    private void drawCell(GraphicsContext gc, int row, int col, int id) {
+        double px = col * CELL;
+        double py = (row - GameConstants.HIDDEN_ROWS) * CELL;
+        gc.clearRect(px, py, GameConstants.BRICK_SIZE, GameConstants.BRICK_SIZE);
+        if (id != 0) {
+            gc.setFill(BrickColorManager.getColor(id));
+            fillCell(gc, px, py, GameConstants.BRICK_SIZE);
+        }
+    }
+
+    /**
+     * Fills a cell-wide rectangle, with rounded corners unless the quality level squares them.
+     */
+    private void fillCell(GraphicsContext gc, double x, double y, double height) {
+        if (cellArc > 0) {
+            gc.fillRoundRect(x, y, GameConstants.BRICK_SIZE, height, cellArc, cellArc);
+        } else {
+            gc.fillRect(x, y, GameConstants.BRICK_SIZE, height);
+        }
+    }
+
+    /**
+     * Redraws the ghost and the falling brick, the brick lowered by the fall offset.
+     */
+    private void drawBrickLayer(SpriteAtlas atlas, ViewData brick) {
+        GraphicsContext gc = brickCanvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, brickCanvas.getWidth(), brickCanvas.getHeight());
+        drawBrick(atlas, brick, brick.getGhostYPosition(), SpriteAtlas.Style.GHOST);
+        drawBrick(atlas, brick, brick.getyPosition() + fallOffset, SpriteAtlas.Style.NORMAL);
+    }
+
+    /**
+     * Draws the falling brick's sprite at a board row, either solid or as its translucent ghost.
+     */
+    private void drawBrick(SpriteAtlas atlas, ViewData brick, double y, SpriteAtlas.Style style) {
+        Rectangle2D sprite = atlas.getSprite(brick.getBrickShapes(), brick.getRotation(), style);
+        // Rows above the visible board fall outside the canvas and are clipped
+        brickCanvas.getGraphicsContext2D().drawImage(atlas.getImage(),
+                sprite.getMinX(), sprite.getMinY(), sprite.getWidth(), sprite.getHeight(),
+                brick.getxPosition() * CELL, (y - GameConstants.HIDDEN_ROWS) * CELL,
+                sprite.getWidth(), sprite.getHeight());
+    }
+
+    /**
+     * Draws the next brick's centered preview sprite.
+     */
+    private void drawPreview(SpriteAtlas atlas, ViewData brick) {
+        GraphicsContext gc = previewCanvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, previewCanvas.getWidth(), previewCanvas.getHeight());
+        Rectangle2D sprite = atlas.getSprite(brick.getNextBrickShapes(), 0, SpriteAtlas.Style.PREVIEW);
+        gc.drawImage(atlas.getImage(),
+                sprite.getMinX(), sprite.getMinY(), sprite.getWidth(), sprite.getHeight(),
+                0, 0, sprite.getWidth(), sprite.getHeight());
+    }
+}
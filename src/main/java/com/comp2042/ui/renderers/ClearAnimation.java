@@ -0,0 +1,94 @@
+package com.comp2042.ui.renderers;
+
+/**
+ * Timing and cell contents of the row-clear animations of one board.
+ * The board has already removed the rows when an animation starts; the renderer
+ * keeps a copy of each cleared row as it was last drawn and plays a flash that
+ * collapses into the row while the game goes on underneath.
+ * Slots are allocated once, so starting an animation never allocates.
+ */
+final class ClearAnimation {
+
+    /** How long one cleared row takes to flash and collapse */
+    static final long DURATION_NANOS = 300_000_000L;
+
+    /** Rows that can animate at the same time, enough for a four-line clear */
+    static final int SLOTS = 4;
+
+    private final int[][] cells;
+    private final int[] rows = new int[SLOTS];
+    private final long[] startNanos = new long[SLOTS];
+    private final boolean[] active = new boolean[SLOTS];
+    private final boolean[] started = new boolean[SLOTS];
+
+    /**
+     * @param columns Width of the board in cells
+     */
+    ClearAnimation(int columns) {
+        cells = new int[SLOTS][columns];
+    }
+
+    /**
+     * Starts animating a cleared row, reusing the oldest slot when all are busy.
+     * The animation's clock starts at the next {@link #progress(int, long)} call.
+     *
+     * @param row Board index of the row before the clear
+     * @param rowCells The row's cells as last drawn, copied
+     * @return The slot now playing the row
+     */
+    int start(int row, int[] rowCells) {
+        int slot = 0;
+        for (int i = 0; i < SLOTS; i++) {
+            if (!active[i]) {
+                slot = i;
+                break;
+            }
+            if (startNanos[i] < startNanos[slot]) {
+                slot = i;
+            }
+        }
+        System.arraycopy(rowCells, 0, cells[slot], 0, cells[slot].length);
+        rows[slot] = row;
+        active[slot] = true;
+        started[slot] = false;
+        return slot;
+    }
+
+    boolean isActive(int slot) {
+        return active[slot];
+    }
+
+    int getRow(int slot) {
+        return rows[slot];
+    }
+
+    /**
+     * @return The brick id of a cell of the cleared row, 0 for cells that were not drawn yet
+     */
+    int getCell(int slot, int column) {
+        return cells[slot][column];
+    }
+
+    /**
+     * Gets how far an animation has played, ending it once it is complete.
+     *
+     * @param slot The animation slot
+     * @param nanoTime The frame time
+     * @return The progress from 0 to 1, or -1 once the animation has finished
+     */
+    double progress(int slot, long nanoTime) {
+        if (!active[slot]) {
+            return -1;
+        }
+        if (!started[slot]) {
+            startNanos[slot] = nanoTime;
+            started[slot] = true;
+        }
+        long elapsed = nanoTime - startNanos[slot];
+        if (elapsed >= DURATION_NANOS) {
+            active[slot] = false;
+            return -1;
+        }
+        return (double) elapsed / DURATION_NANOS;
+    }
+}
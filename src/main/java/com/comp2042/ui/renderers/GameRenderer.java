@@ -3,44 +3,85 @@ package com.comp2042.ui.renderers;
 import com.comp2042.game.models.ViewData;
 import com.comp2042.utils.BrickColorManager;
 import com.comp2042.utils.GameConstants;
+import com.comp2042.utils.QualityGovernor;
+import com.comp2042.utils.ScaleMode;
 
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.ImageView;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
-import javafx.scene.paint.Paint;
 import javafx.scene.shape.Rectangle;
 
 /**
  * Handles all rendering operations for the game including bricks, boards, and ghost pieces.
+ * Every board cell is a Rectangle node that is restyled through the scene graph,
+ * while the falling brick, ghost and preview are single sprites from the {@link SpriteAtlas}.
+ * Particles are too many for nodes and are drawn onto one canvas above the cells.
  */
-public class GameRenderer {
+public class GameRenderer implements BoardRenderer {
 
     private final GridPane gamePanel;
     private final GridPane brickPanel;
     private final GridPane nextBrickPanel;
     private final Pane rootPane;
+    private final double baseX;
+    private final double baseY;
 
     private Rectangle[][] displayMatrix;
-    private Rectangle[][] rectangles;
-    private Rectangle[][] nextBrickRectangles;
-    private GridPane ghostBrickPanel;
-    private Rectangle[][] ghostRectangles;
+    // Brick id last painted into each cell of displayMatrix
+    private int[][] shownCells;
+    private long repaintedCells;
+    // Corner arc of the board cells, 0 when the quality level squares them
+    private double cellArc = 9;
+    // Pooled overlays replaying cleared rows, one per animation slot
+    private ClearAnimation clearAnimation;
+    private Group[] clearOverlays;
+    // Particles of clears and hard drops, the canvas cleared only after frames that drew on it
+    private ParticleSystem particles;
+    private Canvas particleCanvas;
+    private boolean particlesDrawn;
+    // One sprite per piece instead of a grid of rectangles each
+    private ImageView brickView;
+    private ImageView ghostBrickView;
+    private ImageView nextBrickView;
+    // Brick view and atlas last drawn, to skip the parts of a refresh whose inputs did not change
+    private ViewData shownBrick;
+    private SpriteAtlas shownAtlas;
 
     public GameRenderer(GridPane gamePanel, GridPane brickPanel, GridPane nextBrickPanel, Pane rootPane) {
+        this(gamePanel, brickPanel, nextBrickPanel, rootPane, GameConstants.GAME_BASE_X, GameConstants.GAME_BASE_Y);
+    }
+
+    /**
+     * @param baseX X coordinate of the board's top-left visible cell in the root pane
+     * @param baseY Y coordinate of the board's top-left visible cell in the root pane
+     */
+    public GameRenderer(GridPane gamePanel, GridPane brickPanel, GridPane nextBrickPanel, Pane rootPane,
+                        double baseX, double baseY) {
         this.gamePanel = gamePanel;
         this.brickPanel = brickPanel;
         this.nextBrickPanel = nextBrickPanel;
         this.rootPane = rootPane;
+        this.baseX = baseX;
+        this.baseY = baseY;
     }
 
     /**
      * Initializes the game view with board matrix and initial brick
      */
+    @Override
     public void initGameView(int[][] boardMatrix, ViewData brick) {
         initDisplayMatrix(boardMatrix);
-        initBrickRectangles(brick);
-        initGhostBrickPanel(brick);
-        initNextBrickPanel(brick.getNextBrickData());
+        initClearOverlays(boardMatrix[0].length);
+        initParticleCanvas(boardMatrix);
+        initBrickView();
+        initGhostBrickView();
+        initNextBrickView();
+        refreshBrick(brick);
     }
 
     /**
@@ -48,6 +89,7 @@ public class GameRenderer {
      */
     private void initDisplayMatrix(int[][] boardMatrix) {
         displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
+        shownCells = new int[boardMatrix.length][boardMatrix[0].length];
         for (int i = 2; i < boardMatrix.length; i++) {
             for (int j = 0; j < boardMatrix[i].length; j++) {
                 Rectangle rectangle = new Rectangle(GameConstants.BRICK_SIZE, GameConstants.BRICK_SIZE);
@@ -59,193 +101,274 @@ public class GameRenderer {
     }
 
     /**
-     * Initializes the brick rectangles for the current piece
+     * Creates the hidden overlays that cleared rows are replayed on, above the board cells
      */
-    private void initBrickRectangles(ViewData brick) {
-        rectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
+    private void initClearOverlays(int columns) {
+        clearAnimation = new ClearAnimation(columns);
+        clearOverlays = new Group[ClearAnimation.SLOTS];
+        double cellWidth = gamePanel.getHgap() + GameConstants.BRICK_SIZE;
+        for (int slot = 0; slot < clearOverlays.length; slot++) {
+            Group overlay = new Group();
+            for (int j = 0; j < columns; j++) {
                 Rectangle rectangle = new Rectangle(GameConstants.BRICK_SIZE, GameConstants.BRICK_SIZE);
-                rectangle.setFill(BrickColorManager.getColor(brick.getBrickData()[i][j]));
-                rectangles[i][j] = rectangle;
-                brickPanel.add(rectangle, j, i);
+                rectangle.setArcHeight(cellArc);
+                rectangle.setArcWidth(cellArc);
+                rectangle.setX(j * cellWidth);
+                overlay.getChildren().add(rectangle);
             }
+            // Positioned by hand over a row instead of by the grid
+            overlay.setManaged(false);
+            overlay.setVisible(false);
+            clearOverlays[slot] = overlay;
+            gamePanel.getChildren().add(overlay);
         }
-
-        // Calculate cell dimensions (brick size + gap)
-        double cellWidth = brickPanel.getHgap() + GameConstants.BRICK_SIZE;
-        double cellHeight = brickPanel.getVgap() + GameConstants.BRICK_SIZE;
-
-        // Calculate offset for hidden rows at the top
-        double hiddenRowsOffset = GameConstants.HIDDEN_ROWS * cellHeight;
-
-        brickPanel.setLayoutX(GameConstants.GAME_BASE_X + brick.getxPosition() * cellWidth);
-        brickPanel.setLayoutY(GameConstants.GAME_BASE_Y - hiddenRowsOffset + brick.getyPosition() * cellHeight);
     }
 
     /**
-     * Initializes the ghost brick panel
+     * Creates the canvas particles are drawn on, covering the visible board above the overlays
      */
-    private void initGhostBrickPanel(ViewData brick) {
-        ghostBrickPanel = new GridPane();
-        ghostBrickPanel.setHgap(1);
-        ghostBrickPanel.setVgap(1);
-        rootPane.getChildren().add(0, ghostBrickPanel); // Add at index 0 so it's behind other elements
-
-        ghostRectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                Rectangle rectangle = new Rectangle(GameConstants.BRICK_SIZE, GameConstants.BRICK_SIZE);
-                rectangle.setFill(Color.TRANSPARENT);
-                rectangle.setArcHeight(9);
-                rectangle.setArcWidth(9);
-                ghostRectangles[i][j] = rectangle;
-                ghostBrickPanel.add(rectangle, j, i);
-            }
-        }
+    private void initParticleCanvas(int[][] boardMatrix) {
+        double width = boardMatrix[0].length * (gamePanel.getHgap() + GameConstants.BRICK_SIZE) - gamePanel.getHgap();
+        double height = (boardMatrix.length - GameConstants.HIDDEN_ROWS) * (gamePanel.getVgap() + GameConstants.BRICK_SIZE)
+                        - gamePanel.getVgap();
+        particleCanvas = new Canvas(width, height);
+        particles = new ParticleSystem(width, height);
+        particleCanvas.setManaged(false);
+        particleCanvas.setMouseTransparent(true);
+        gamePanel.getChildren().add(particleCanvas);
     }
 
     /**
-     * Initializes the next brick preview panel
+     * Creates an empty view for atlas sprites, unsmoothed when the game is scaled pixel for pixel
      */
-    private void initNextBrickPanel(int[][] nextBrickData) {
-        // Create a 4x4 grid for the next brick preview
-        nextBrickRectangles = new Rectangle[4][4];
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
-                Rectangle rectangle = new Rectangle(GameConstants.BRICK_SIZE, GameConstants.BRICK_SIZE);
-                rectangle.setFill(Color.TRANSPARENT);
-                nextBrickRectangles[i][j] = rectangle;
-                nextBrickPanel.add(rectangle, j, i);
-            }
-        }
-        updateNextBrickPanel(nextBrickData);
+    private static ImageView createSpriteView() {
+        ImageView view = new ImageView();
+        view.setSmooth(!ScaleMode.fromSystemProperty().isPixelExact());
+        return view;
     }
 
     /**
-     * Updates the next brick preview panel with new brick data
+     * Initializes the sprite of the current piece
      */
-    public void updateNextBrickPanel(int[][] nextBrickData) {
-        // Clear the preview panel
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
-                nextBrickRectangles[i][j].setFill(Color.TRANSPARENT);
-                nextBrickRectangles[i][j].setArcHeight(0);
-                nextBrickRectangles[i][j].setArcWidth(0);
-            }
-        }
+    private void initBrickView() {
+        brickView = createSpriteView();
+        brickPanel.add(brickView, 0, 0);
+    }
 
-        // Display the next brick centered in the 4x4 grid
-        if (nextBrickData != null && nextBrickData.length > 0) {
-            // Find the actual bounds of the brick (non-zero cells)
-            int minRow = nextBrickData.length, maxRow = -1;
-            int minCol = nextBrickData[0].length, maxCol = -1;
-
-            for (int i = 0; i < nextBrickData.length; i++) {
-                for (int j = 0; j < nextBrickData[i].length; j++) {
-                    if (nextBrickData[i][j] != 0) {
-                        minRow = Math.min(minRow, i);
-                        maxRow = Math.max(maxRow, i);
-                        minCol = Math.min(minCol, j);
-                        maxCol = Math.max(maxCol, j);
-                    }
-                }
-            }
+    /**
+     * Initializes the ghost brick sprite
+     */
+    private void initGhostBrickView() {
+        ghostBrickView = createSpriteView();
+        rootPane.getChildren().add(0, ghostBrickView); // Add at index 0 so it's behind other elements
+    }
 
-            // Calculate actual brick dimensions
-            if (maxRow >= 0) {
-                int brickHeight = maxRow - minRow + 1;
-                int brickWidth = maxCol - minCol + 1;
-
-                // Center the brick in the 4x4 grid
-                int offsetRow = (4 - brickHeight) / 2;
-                int offsetCol = (4 - brickWidth) / 2;
-
-                for (int i = 0; i < nextBrickData.length; i++) {
-                    for (int j = 0; j < nextBrickData[i].length; j++) {
-                        if (nextBrickData[i][j] != 0) {
-                            int targetRow = offsetRow + (i - minRow);
-                            int targetCol = offsetCol + (j - minCol);
-
-                            if (targetRow >= 0 && targetRow < 4 && targetCol >= 0 && targetCol < 4) {
-                                Rectangle rect = nextBrickRectangles[targetRow][targetCol];
-                                rect.setFill(BrickColorManager.getColor(nextBrickData[i][j]));
-                                rect.setArcHeight(9);
-                                rect.setArcWidth(9);
-                            }
-                        }
-                    }
-                }
-            }
-        }
+    /**
+     * Initializes the next brick preview sprite
+     */
+    private void initNextBrickView() {
+        nextBrickView = createSpriteView();
+        nextBrickPanel.add(nextBrickView, 0, 0);
     }
 
     /**
-     * Refreshes the brick display with new position and data
+     * Refreshes the brick display with new position and data.
+     * Each piece is a single sprite, so an update moves a node or changes its viewport.
      */
+    @Override
     public void refreshBrick(ViewData brick) {
-        // Calculate cell dimensions (brick size + gap)
-        double cellWidth = brickPanel.getHgap() + GameConstants.BRICK_SIZE;
-        double cellHeight = brickPanel.getVgap() + GameConstants.BRICK_SIZE;
+        SpriteAtlas atlas = SpriteAtlas.current();
+        boolean atlasChanged = atlas != shownAtlas;
+        boolean shapeChanged = atlasChanged || !brick.hasSameBrick(shownBrick);
+        boolean moved = shownBrick == null
+                || brick.getxPosition() != shownBrick.getxPosition()
+                || brick.getyPosition() != shownBrick.getyPosition();
+        boolean ghostMoved = moved || brick.getGhostYPosition() != shownBrick.getGhostYPosition();
+        boolean nextChanged = atlasChanged || !brick.hasSameNextBrick(shownBrick);
+        shownBrick = brick;
 
-        // Calculate offset for hidden rows at the top
-        double hiddenRowsOffset = GameConstants.HIDDEN_ROWS * cellHeight;
+        if (atlasChanged) {
+            // Theme switched, all sprites come from another image
+            shownAtlas = atlas;
+            brickView.setImage(atlas.getImage());
+            ghostBrickView.setImage(atlas.getImage());
+            nextBrickView.setImage(atlas.getImage());
+        }
+        if (moved) {
+            // Calculate cell dimensions (brick size + gap)
+            double cellWidth = brickPanel.getHgap() + GameConstants.BRICK_SIZE;
+            double cellHeight = brickPanel.getVgap() + GameConstants.BRICK_SIZE;
 
-        brickPanel.setLayoutX(GameConstants.GAME_BASE_X + brick.getxPosition() * cellWidth);
-        brickPanel.setLayoutY(GameConstants.GAME_BASE_Y - hiddenRowsOffset + brick.getyPosition() * cellHeight);
+            // Calculate offset for hidden rows at the top
+            double hiddenRowsOffset = GameConstants.HIDDEN_ROWS * cellHeight;
 
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                setRectangleData(brick.getBrickData()[i][j], rectangles[i][j]);
-            }
+            brickPanel.setLayoutX(baseX + brick.getxPosition() * cellWidth);
+            brickPanel.setLayoutY(baseY - hiddenRowsOffset + brick.getyPosition() * cellHeight);
+        }
+        if (shapeChanged) {
+            brickView.setViewport(atlas.getSprite(brick.getBrickShapes(), brick.getRotation(), SpriteAtlas.Style.NORMAL));
+            ghostBrickView.setViewport(atlas.getSprite(brick.getBrickShapes(), brick.getRotation(), SpriteAtlas.Style.GHOST));
         }
         // Update ghost brick
-        updateGhostBrick(brick);
+        if (ghostMoved) {
+            moveGhostBrick(brick);
+        }
         // Update next brick preview
-        updateNextBrickPanel(brick.getNextBrickData());
+        if (nextChanged) {
+            nextBrickView.setViewport(atlas.getSprite(brick.getNextBrickShapes(), 0, SpriteAtlas.Style.PREVIEW));
+        }
+    }
+
+    @Override
+    public void setFallOffset(double rows) {
+        double offset = rows * (brickPanel.getVgap() + GameConstants.BRICK_SIZE);
+        if (offset != brickPanel.getTranslateY()) {
+            brickPanel.setTranslateY(offset);
+        }
     }
 
     /**
-     * Updates the ghost brick position and appearance
+     * Positions the ghost brick at its landing row below the current brick
      */
-    private void updateGhostBrick(ViewData brick) {
+    private void moveGhostBrick(ViewData brick) {
         // Calculate cell height using brickPanel gap for consistency
         double cellHeight = brickPanel.getVgap() + GameConstants.BRICK_SIZE;
 
         // Position ghost brick relative to current brick position
-        ghostBrickPanel.setLayoutX(brickPanel.getLayoutX());
-        ghostBrickPanel.setLayoutY(brickPanel.getLayoutY() + (brick.getGhostYPosition() - brick.getyPosition()) * cellHeight);
-
-        // Update ghost brick appearance - semi-transparent version of the brick
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                if (brick.getBrickData()[i][j] != 0) {
-                    Paint color = BrickColorManager.getColor(brick.getBrickData()[i][j]);
-                    // Make it semi-transparent
-                    if (color instanceof Color solidColor) {
-                        Color ghostColor = new Color(solidColor.getRed(), solidColor.getGreen(), solidColor.getBlue(), 0.3);
-                        ghostRectangles[i][j].setFill(ghostColor);
-                        ghostRectangles[i][j].setStroke(solidColor.deriveColor(0, 1, 1, 0.5));
-                        ghostRectangles[i][j].setStrokeWidth(1);
-                    } else {
-                        ghostRectangles[i][j].setFill(Color.TRANSPARENT);
-                    }
-                } else {
-                    ghostRectangles[i][j].setFill(Color.TRANSPARENT);
-                    ghostRectangles[i][j].setStroke(null);
+        ghostBrickView.setLayoutX(brickPanel.getLayoutX());
+        ghostBrickView.setLayoutY(brickPanel.getLayoutY() + (brick.getGhostYPosition() - brick.getyPosition()) * cellHeight);
+    }
+
+    /**
+     * Refreshes the cells of the game background that changed since the last refresh
+     */
+    @Override
+    public void refreshGameBackground(int[][] board) {
+        for (int i = GameConstants.HIDDEN_ROWS; i < board.length; i++) {
+            int[] row = board[i];
+            int[] shownRow = shownCells[i];
+            for (int j = 0; j < row.length; j++) {
+                if (row[j] != shownRow[j]) {
+                    shownRow[j] = row[j];
+                    setRectangleData(row[j], displayMatrix[i][j]);
+                    repaintedCells++;
                 }
             }
         }
     }
 
+    @Override
+    public void repaint() {
+        for (int i = GameConstants.HIDDEN_ROWS; i < shownCells.length; i++) {
+            for (int j = 0; j < shownCells[i].length; j++) {
+                setRectangleData(shownCells[i][j], displayMatrix[i][j]);
+                repaintedCells++;
+            }
+        }
+        if (shownBrick != null) {
+            ViewData brick = shownBrick;
+            shownBrick = null;
+            refreshBrick(brick);
+        }
+    }
+
     /**
-     * Refreshes the game background board
+     * Moves the rectangles of the rows above a cleared row down by one grid row.
+     * The cleared row's rectangles are reused as the new top row and keep their
+     * old fill until the next background refresh repaints them, while a copy of
+     * the row plays its clear animation on an overlay.
      */
-    public void refreshGameBackground(int[][] board) {
-        for (int i = 2; i < board.length; i++) {
-            for (int j = 0; j < board[i].length; j++) {
-                setRectangleData(board[i][j], displayMatrix[i][j]);
+    @Override
+    public void removeRow(int row) {
+        if (row < GameConstants.HIDDEN_ROWS) {
+            return;
+        }
+        startClearAnimation(row);
+
+        Rectangle[] removed = displayMatrix[row];
+        int[] removedCells = shownCells[row];
+        for (int i = row; i > GameConstants.HIDDEN_ROWS; i--) {
+            displayMatrix[i] = displayMatrix[i - 1];
+            shownCells[i] = shownCells[i - 1];
+            setGridRow(displayMatrix[i], i - GameConstants.HIDDEN_ROWS);
+        }
+        displayMatrix[GameConstants.HIDDEN_ROWS] = removed;
+        shownCells[GameConstants.HIDDEN_ROWS] = removedCells;
+        setGridRow(removed, 0);
+    }
+
+    @Override
+    public void animate(long nanoTime) {
+        double arc = QualityGovernor.getLevel().hasRoundedCells() ? 9 : 0;
+        if (arc != cellArc) {
+            cellArc = arc;
+            for (Group overlay : clearOverlays) {
+                for (Node node : overlay.getChildren()) {
+                    ((Rectangle) node).setArcWidth(arc);
+                    ((Rectangle) node).setArcHeight(arc);
+                }
             }
+            repaint();
+        }
+
+        for (int slot = 0; slot < clearOverlays.length; slot++) {
+            Group overlay = clearOverlays[slot];
+            if (!overlay.isVisible()) {
+                continue;
+            }
+            double progress = clearAnimation.progress(slot, nanoTime);
+            if (progress < 0) {
+                overlay.setVisible(false);
+            } else {
+                // Fade the flash while squashing it into the row's center line
+                overlay.setOpacity(1 - progress);
+                overlay.setScaleY(1 - progress);
+            }
+        }
+
+        GraphicsContext gc = particleCanvas.getGraphicsContext2D();
+        if (particlesDrawn) {
+            gc.clearRect(0, 0, particleCanvas.getWidth(), particleCanvas.getHeight());
+            particlesDrawn = false;
+        }
+        particles.update(nanoTime);
+        if (particles.getCount() > 0) {
+            particles.draw(gc);
+            particlesDrawn = true;
+        }
+    }
+
+    @Override
+    public void showHardDrop(ViewData brick) {
+        particles.emitHardDrop(brick, gamePanel.getHgap() + GameConstants.BRICK_SIZE);
+    }
+
+    /**
+     * Shows a cleared row as it was drawn, in highlight colours, on a free overlay
+     */
+    private void startClearAnimation(int row) {
+        int slot = clearAnimation.start(row, shownCells[row]);
+        Group overlay = clearOverlays[slot];
+        for (int j = 0; j < shownCells[row].length; j++) {
+            // Cells of the brick that completed the row may not have been drawn yet
+            int id = clearAnimation.getCell(slot, j);
+            ((Rectangle) overlay.getChildren().get(j)).setFill(id != 0 ? BrickColorManager.getHighlight(id) : Color.WHITE);
+        }
+        overlay.setLayoutY((row - GameConstants.HIDDEN_ROWS) * (gamePanel.getVgap() + GameConstants.BRICK_SIZE));
+        overlay.setOpacity(1);
+        overlay.setScaleY(1);
+        overlay.setVisible(true);
+        particles.emitRowClear(row, shownCells[row], gamePanel.getHgap() + GameConstants.BRICK_SIZE);
+    }
+
+    @Override
+    public long getRepaintedCells() {
+        return repaintedCells;
+    }
+
+    private static void setGridRow(Rectangle[] rectangles, int gridRow) {
+        for (Rectangle rectangle : rectangles) {
+            GridPane.setRowIndex(rectangle, gridRow);
         }
     }
 
@@ -254,7 +377,7 @@ public class GameRenderer {
      */
     private void setRectangleData(int color, Rectangle rectangle) {
         rectangle.setFill(BrickColorManager.getColor(color));
-        rectangle.setArcHeight(9);
-        rectangle.setArcWidth(9);
+        rectangle.setArcHeight(cellArc);
+        rectangle.setArcWidth(cellArc);
     }
 }
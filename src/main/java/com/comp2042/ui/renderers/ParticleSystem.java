@@ -0,0 +1,244 @@
+package com.comp2042.ui.renderers;
+
+import com.comp2042.game.models.ViewData;
+import com.comp2042.logic.bricks.ShapeTable;
+import com.comp2042.utils.BrickColorManager;
+import com.comp2042.utils.ColorTheme;
+import com.comp2042.utils.GameConstants;
+import com.comp2042.utils.QualityGovernor;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+/**
+ * Short-lived particles for row clears and hard drops, drawn onto a canvas.
+ * Particles are kept as a struct of arrays: one primitive array per attribute,
+ * with the live particles packed at the front. Updating them is a single loop
+ * over the arrays and drawing them a single pass over the same arrays, so
+ * thousands of particles cost no nodes and no allocations.
+ * Particles are plotted into a pixel array that reaches the canvas as one image,
+ * as one canvas command per particle would cost more than the particles themselves.
+ * Positions are in pixels of the visible board, times in seconds.
+ */
+final class ParticleSystem {
+
+    /** Most particles alive on one board by default; emitting beyond the budget drops the new particles */
+    static final int DEFAULT_BUDGET = 4096;
+
+    private static final int CLEAR_PARTICLES_PER_CELL = 8;
+    private static final int DROP_PARTICLES_PER_COLUMN = 12;
+
+    private static final float GRAVITY = 900;
+    private static final int SIZE = 3;
+    // Frames further apart than this, e.g. after a stall, are simulated as this long
+    private static final float MAX_STEP = 0.05f;
+
+    private final int budget;
+    private final float[] x;
+    private final float[] y;
+    private final float[] vx;
+    private final float[] vy;
+    private final float[] age;
+    private final float[] life;
+    // Brick id the particle takes its highlight colour from, 0 for white
+    private final int[] colorId;
+    private int count;
+
+    private final Random random = new Random();
+    private long lastNanos;
+
+    // Premultiplied ARGB pixels the particles are plotted into
+    private final int width;
+    private final int height;
+    private final int[] pixels;
+    private final WritableImage image;
+    // Highlight colour of each brick id in the theme they were taken from
+    private final int[] colors = new int[16];
+    private ColorTheme colorsTheme;
+
+    /**
+     * @param width Width of the area particles are drawn in, in pixels
+     * @param height Height of the area particles are drawn in, in pixels
+     */
+    ParticleSystem(double width, double height) {
+        this(width, height, DEFAULT_BUDGET);
+    }
+
+    /**
+     * @param width Width of the area particles are drawn in, in pixels
+     * @param height Height of the area particles are drawn in, in pixels
+     * @param budget Most particles alive at once
+     */
+    ParticleSystem(double width, double height, int budget) {
+        if (budget < 1) {
+            throw new IllegalArgumentException("Particle budget must be positive, got " + budget);
+        }
+        this.budget = budget;
+        x = new float[budget];
+        y = new float[budget];
+        vx = new float[budget];
+        vy = new float[budget];
+        age = new float[budget];
+        life = new float[budget];
+        colorId = new int[budget];
+        this.width = (int) Math.ceil(width);
+        this.height = (int) Math.ceil(height);
+        pixels = new int[this.width * this.height];
+        image = new WritableImage(this.width, this.height);
+    }
+
+    /**
+     * Emits a burst of particles from a rectangle.
+     *
+     * @param left Left edge of the area the particles start in
+     * @param top Top edge of the area the particles start in
+     * @param width Width of the area
+     * @param height Height of the area
+     * @param amount Number of particles to emit at full quality, fewer at lower
+     *               {@link com.comp2042.utils.QualityLevel}s or if the budget runs out
+     * @param speed Largest initial speed in pixels per second
+     * @param upward Whether the particles are thrown up instead of in every direction
+     * @param id Brick id of the particles' colour, 0 for white
+     */
+    void emit(double left, double top, double width, double height, int amount, double speed,
+              boolean upward, int id) {
+        int scaled = (int) Math.ceil(amount * QualityGovernor.getLevel().getParticleScale());
+        int end = Math.min(count + scaled, budget);
+        for (int i = count; i < end; i++) {
+            double angle = upward ? Math.PI * (1 + random.nextDouble()) : 2 * Math.PI * random.nextDouble();
+            double v = speed * (0.3 + 0.7 * random.nextDouble());
+            x[i] = (float) (left + width * random.nextDouble());
+            y[i] = (float) (top + height * random.nextDouble());
+            vx[i] = (float) (Math.cos(angle) * v);
+            vy[i] = (float) (Math.sin(angle) * v);
+            age[i] = 0;
+            life[i] = (float) (0.4 + 0.4 * random.nextDouble());
+            colorId[i] = id;
+        }
+        count = end;
+    }
+
+    /**
+     * Bursts every cell of a cleared row into particles of its colour.
+     *
+     * @param row Board index of the row, including the hidden rows
+     * @param rowCells The row's cells as last drawn
+     * @param cell Distance between two cells in pixels
+     */
+    void emitRowClear(int row, int[] rowCells, double cell) {
+        double top = (row - GameConstants.HIDDEN_ROWS) * cell;
+        for (int j = 0; j < rowCells.length; j++) {
+            emit(j * cell, top, GameConstants.BRICK_SIZE, GameConstants.BRICK_SIZE,
+                 CLEAR_PARTICLES_PER_CELL, 260, false, rowCells[j]);
+        }
+    }
+
+    /**
+     * Throws dust up from under every column of a hard dropped brick where it landed.
+     *
+     * @param brick The brick as it was before the drop
+     * @param cell Distance between two cells in pixels
+     */
+    void emitHardDrop(ViewData brick, double cell) {
+        ShapeTable table = brick.getBrickShapes();
+        int rotation = brick.getRotation();
+        for (int col = table.getMinCol(rotation); col <= table.getMaxCol(rotation); col++) {
+            int bottom = table.getColumnBottom(rotation, col);
+            if (bottom < 0) {
+                continue;
+            }
+            double left = (brick.getxPosition() + col) * cell;
+            double floor = (brick.getGhostYPosition() + bottom + 1 - GameConstants.HIDDEN_ROWS) * cell;
+            emit(left, floor - 2, GameConstants.BRICK_SIZE, 2, DROP_PARTICLES_PER_COLUMN, 180, true,
+                 table.getCell(rotation, bottom, col));
+        }
+    }
+
+    /**
+     * Moves every particle to a frame time and removes the ones that expired.
+     *
+     * @param nanoTime The frame time in nanoseconds
+     */
+    void update(long nanoTime) {
+        float dt = lastNanos == 0 ? 0 : Math.min((nanoTime - lastNanos) / 1e9f, MAX_STEP);
+        lastNanos = nanoTime;
+        int i = 0;
+        while (i < count) {
+            float a = age[i] + dt;
+            if (a >= life[i]) {
+                // Fill the gap with the last live particle to keep the arrays packed
+                count--;
+                x[i] = x[count];
+                y[i] = y[count];
+                vx[i] = vx[count];
+                vy[i] = vy[count];
+                age[i] = age[count];
+                life[i] = life[count];
+                colorId[i] = colorId[count];
+                continue;
+            }
+            age[i] = a;
+            vy[i] += GRAVITY * dt;
+            x[i] += vx[i] * dt;
+            y[i] += vy[i] * dt;
+            i++;
+        }
+    }
+
+    /**
+     * Draws every live particle at the top-left corner of a graphics context,
+     * fading it out over its lifetime.
+     */
+    void draw(GraphicsContext gc) {
+        updateColors();
+        Arrays.fill(pixels, 0);
+        for (int i = 0; i < count; i++) {
+            int px = (int) x[i];
+            int py = (int) y[i];
+            if (px < 0 || py < 0 || px > width - SIZE || py > height - SIZE) {
+                continue;
+            }
+            int argb = colorId[i] < colors.length ? colors[colorId[i]] : colors[0];
+            int alpha = (int) (255 * (1 - age[i] / life[i]));
+            int pixel = alpha << 24
+                        | ((argb >> 16 & 0xFF) * alpha / 255) << 16
+                        | ((argb >> 8 & 0xFF) * alpha / 255) << 8
+                        | (argb & 0xFF) * alpha / 255;
+            for (int row = py * width + px, end = row + SIZE * width; row < end; row += width) {
+                Arrays.fill(pixels, row, row + SIZE, pixel);
+            }
+        }
+        image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbPreInstance(), pixels, 0, width);
+        gc.drawImage(image, 0, 0);
+    }
+
+    /**
+     * Converts the highlight colours of the current theme to pixels, once per theme
+     */
+    private void updateColors() {
+        if (colorsTheme == BrickColorManager.getTheme()) {
+            return;
+        }
+        colorsTheme = BrickColorManager.getTheme();
+        for (int id = 0; id < colors.length; id++) {
+            Paint paint = id != 0 ? BrickColorManager.getHighlight(id) : Color.WHITE;
+            Color color = paint instanceof Color ? (Color) paint : Color.WHITE;
+            colors[id] = (int) Math.round(color.getRed() * 255) << 16
+                         | (int) Math.round(color.getGreen() * 255) << 8
+                         | (int) Math.round(color.getBlue() * 255);
+        }
+    }
+
+    /**
+     * @return The number of live particles
+     */
+    int getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,60 @@
+package com.comp2042.ui.renderers;
+
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
+
+/**
+ * Available board renderers.
+ * The renderer used by the game can be chosen at startup with the
+ * {@code tetris.renderer} system property, e.g. {@code -Dtetris.renderer=canvas}.
+ */
+public enum RendererType {
+
+    /** One Rectangle node per cell, updated through the scene graph */
+    NODES,
+
+    /** One Canvas per board, redrawn from the board matrix */
+    CANVAS;
+
+    /** Name of the system property used to select the renderer */
+    public static final String SYSTEM_PROPERTY = "tetris.renderer";
+
+    /**
+     * Creates a renderer of this type for one board.
+     *
+     * @param gamePanel The grid panel that holds the board cells
+     * @param brickPanel The grid panel that holds the falling brick
+     * @param nextBrickPanel The grid panel that holds the next brick preview
+     * @param rootPane The root pane that overlays such as the ghost brick are added to
+     * @param baseX X coordinate of the board's top-left visible cell in the root pane
+     * @param baseY Y coordinate of the board's top-left visible cell in the root pane
+     * @return A new board renderer
+     */
+    public BoardRenderer create(GridPane gamePanel, GridPane brickPanel, GridPane nextBrickPanel,
+                                Pane rootPane, double baseX, double baseY) {
+        switch (this) {
+            case CANVAS: return new CanvasBoardRenderer(gamePanel, nextBrickPanel);
+            case NODES:
+            default: return new GameRenderer(gamePanel, brickPanel, nextBrickPanel, rootPane, baseX, baseY);
+        }
+    }
+
+    /**
+     * Resolves the renderer from the {@code tetris.renderer} system property.
+     * Falls back to {@link #NODES} when the property is missing or not recognised.
+     *
+     * @return The configured renderer type
+     */
+    public static RendererType fromSystemProperty() {
+        String value = System.getProperty(SYSTEM_PROPERTY);
+        if (value != null) {
+            for (RendererType type : values()) {
+                if (type.name().equalsIgnoreCase(value.trim())) {
+                    return type;
+                }
+            }
+            System.err.println("Unknown renderer '" + value + "', using " + NODES.name().toLowerCase());
+        }
+        return NODES;
+    }
+}
@@ -0,0 +1,292 @@
+package com.comp2042.ui.renderers;
+
+import com.comp2042.game.models.ViewData;
+import com.comp2042.game.simulation.BoardSnapshot;
+import com.comp2042.game.simulation.GameSnapshot;
+import com.comp2042.utils.BrickColorManager;
+import com.comp2042.utils.ColorTheme;
+import com.comp2042.utils.GameConstants;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+/**
+ * Draws a grid of many boards into a single image, for watching many games at once.
+ * The image is backed by a {@link PixelBuffer} the boards are rasterised into directly:
+ * a board is only looked at when its snapshot changed, only the cells that differ from
+ * what was drawn are written, and only the area of the boards written is uploaded.
+ * There are no nodes per board or per cell, so the cost of a frame follows the cells
+ * that changed rather than the number of boards.
+ * Used on the JavaFX application thread.
+ */
+public class SpectatorWall {
+
+    /** Most boards shown on one wall */
+    public static final int MAX_BOARDS = 64;
+
+    // Space between boards and around the wall, in pixels
+    private static final int MARGIN = 4;
+    private static final int WALL_COLOR = 0xFF000000;
+    private static final int EMPTY_COLOR = 0xFF14142B;
+    private static final int GAP_COLOR = 0xFF0A0A18;
+
+    private final int boardCount;
+    private final int rows;
+    private final int columns;
+    private final int width;
+    private final int height;
+    // Pixel size of one cell, the layout of the grid and each board's top-left pixel
+    private final int cellSize;
+    private final int[] boardX;
+    private final int[] boardY;
+
+    private final IntBuffer pixels;
+    private final PixelBuffer<IntBuffer> pixelBuffer;
+    private final WritableImage image;
+
+    // Cell colours as last drawn per board, -1 when not drawn yet
+    private final int[][] shown;
+    private final int[] shownLandings;
+    private final ViewData[] shownViews;
+    // Cells found to differ in this frame, as board-relative cell index and colour
+    private final int[] changedBoards;
+    private final int[] changedCells;
+    private final int[] changedColors;
+    private int changedCount;
+    private final boolean[] boardChanged;
+    private long repaintedCells;
+
+    // Cell colour of each brick id in the theme they were taken from
+    private final int[] colors = new int[8];
+    private ColorTheme colorsTheme;
+
+    /**
+     * @param boardCount Number of boards, at most {@link #MAX_BOARDS}
+     * @param boardRows Rows of each board, including the hidden rows
+     * @param boardColumns Columns of each board
+     * @param width Width of the wall in pixels
+     * @param height Height of the wall in pixels
+     */
+    public SpectatorWall(int boardCount, int boardRows, int boardColumns, int width, int height) {
+        if (boardCount < 1 || boardCount > MAX_BOARDS) {
+            throw new IllegalArgumentException("A wall shows 1 to " + MAX_BOARDS + " boards, got " + boardCount);
+        }
+        this.boardCount = boardCount;
+        this.rows = boardRows;
+        this.columns = boardColumns;
+        this.width = width;
+        this.height = height;
+        int visibleRows = boardRows - GameConstants.HIDDEN_ROWS;
+
+        // Pick the grid that gives the largest cells
+        int bestSize = 0;
+        int bestGridColumns = 1;
+        for (int gridColumns = 1; gridColumns <= boardCount; gridColumns++) {
+            int gridRows = (boardCount + gridColumns - 1) / gridColumns;
+            int size = Math.min(((width - MARGIN) / gridColumns - MARGIN) / boardColumns,
+                                ((height - MARGIN) / gridRows - MARGIN) / visibleRows);
+            if (size > bestSize) {
+                bestSize = size;
+                bestGridColumns = gridColumns;
+            }
+        }
+        if (bestSize < 2) {
+            throw new IllegalArgumentException(boardCount + " boards do not fit in " + width + "x" + height);
+        }
+        cellSize = bestSize;
+
+        // Center the grid in the wall
+        int gridRows = (boardCount + bestGridColumns - 1) / bestGridColumns;
+        int boardWidth = boardColumns * cellSize;
+        int boardHeight = visibleRows * cellSize;
+        int left = (width - bestGridColumns * (boardWidth + MARGIN) + MARGIN) / 2;
+        int top = (height - gridRows * (boardHeight + MARGIN) + MARGIN) / 2;
+        boardX = new int[boardCount];
+        boardY = new int[boardCount];
+        for (int i = 0; i < boardCount; i++) {
+            boardX[i] = left + (i % bestGridColumns) * (boardWidth + MARGIN);
+            boardY[i] = top + (i / bestGridColumns) * (boardHeight + MARGIN);
+        }
+
+        pixels = IntBuffer.allocate(width * height);
+        pixelBuffer = new PixelBuffer<>(width, height, pixels, PixelFormat.getIntArgbPreInstance());
+        image = new WritableImage(pixelBuffer);
+
+        shown = new int[boardCount][visibleRows * boardColumns];
+        shownLandings = new int[boardCount];
+        shownViews = new ViewData[boardCount];
+        int cells = boardCount * visibleRows * boardColumns;
+        changedBoards = new int[cells];
+        changedCells = new int[cells];
+        changedColors = new int[cells];
+        boardChanged = new boolean[boardCount];
+        drawBackground();
+    }
+
+    /**
+     * @return The image the wall is drawn into
+     */
+    public WritableImage getImage() {
+        return image;
+    }
+
+    /**
+     * Draws the boards of a snapshot that changed since the last one drawn.
+     *
+     * @param snapshot A snapshot with at least as many boards as the wall
+     */
+    public void update(GameSnapshot snapshot) {
+        if (collectChanges(snapshot) > 0) {
+            pixelBuffer.updateBuffer(buffer -> writeChanges());
+        }
+    }
+
+    /**
+     * Gets the total number of cells written so far.
+     * Sample it once per frame and take the difference for the cells written per frame.
+     */
+    public long getRepaintedCells() {
+        return repaintedCells;
+    }
+
+    /**
+     * Compares the boards of a snapshot with what was drawn and records the cells that differ.
+     *
+     * @return The number of cells to write
+     */
+    int collectChanges(GameSnapshot snapshot) {
+        if (updateColors()) {
+            // New colours, every cell has to be drawn again
+            for (int[] cells : shown) {
+                Arrays.fill(cells, -1);
+            }
+            Arrays.fill(shownViews, null);
+        }
+
+        changedCount = 0;
+        for (int i = 0; i < boardCount; i++) {
+            BoardSnapshot board = snapshot.getBoard(i);
+            ViewData view = board.getViewData();
+            if (board.getLandings() == shownLandings[i] && view == shownViews[i]) {
+                continue;
+            }
+            shownLandings[i] = board.getLandings();
+            shownViews[i] = view;
+            collectBoard(i, board.getBoardMatrix(), view);
+        }
+        return changedCount;
+    }
+
+    private void collectBoard(int board, int[][] matrix, ViewData view) {
+        int[] cells = shown[board];
+        int brickRows = view != null ? view.getBrickRows() : 0;
+        int brickColumns = view != null ? view.getBrickColumns() : 0;
+        for (int row = GameConstants.HIDDEN_ROWS; row < rows; row++) {
+            int brickRow = view != null ? row - view.getyPosition() : -1;
+            for (int col = 0; col < columns; col++) {
+                int id = matrix[row][col];
+                // The falling brick is drawn over the settled cells
+                if (brickRow >= 0 && brickRow < brickRows) {
+                    int brickCol = col - view.getxPosition();
+                    if (brickCol >= 0 && brickCol < brickColumns && view.cell(brickRow, brickCol) != 0) {
+                        id = view.cell(brickRow, brickCol);
+                    }
+                }
+                int color = id > 0 && id < colors.length ? colors[id] : EMPTY_COLOR;
+                int cell = (row - GameConstants.HIDDEN_ROWS) * columns + col;
+                if (cells[cell] != color) {
+                    cells[cell] = color;
+                    changedBoards[changedCount] = board;
+                    changedCells[changedCount] = cell;
+                    changedColors[changedCount] = color;
+                    changedCount++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the recorded cells into the pixel buffer.
+     *
+     * @return The area of the image that was written to
+     */
+    Rectangle2D writeChanges() {
+        Arrays.fill(boardChanged, false);
+        int[] array = pixels.array();
+        int inner = cellSize - 1;
+        for (int k = 0; k < changedCount; k++) {
+            int board = changedBoards[k];
+            int cell = changedCells[k];
+            int color = changedColors[k];
+            boardChanged[board] = true;
+            int x = boardX[board] + (cell % columns) * cellSize;
+            int y = boardY[board] + (cell / columns) * cellSize;
+            // The last row and column of each cell stay the gap colour
+            for (int offset = y * width + x, end = offset + inner * width; offset < end; offset += width) {
+                Arrays.fill(array, offset, offset + inner, color);
+            }
+        }
+        repaintedCells += changedCount;
+
+        int minX = width;
+        int minY = height;
+        int maxX = 0;
+        int maxY = 0;
+        int boardWidth = columns * cellSize;
+        int boardHeight = (rows - GameConstants.HIDDEN_ROWS) * cellSize;
+        for (int i = 0; i < boardCount; i++) {
+            if (boardChanged[i]) {
+                minX = Math.min(minX, boardX[i]);
+                minY = Math.min(minY, boardY[i]);
+                maxX = Math.max(maxX, boardX[i] + boardWidth);
+                maxY = Math.max(maxY, boardY[i] + boardHeight);
+            }
+        }
+        return new Rectangle2D(minX, minY, maxX - minX, maxY - minY);
+    }
+
+    /**
+     * Fills the wall and the gaps of every board; cells are drawn by the first update
+     */
+    private void drawBackground() {
+        int[] array = pixels.array();
+        Arrays.fill(array, WALL_COLOR);
+        int boardWidth = columns * cellSize;
+        int boardHeight = (rows - GameConstants.HIDDEN_ROWS) * cellSize;
+        for (int i = 0; i < boardCount; i++) {
+            for (int y = boardY[i]; y < boardY[i] + boardHeight; y++) {
+                Arrays.fill(array, y * width + boardX[i], y * width + boardX[i] + boardWidth, GAP_COLOR);
+            }
+            Arrays.fill(shown[i], -1);
+        }
+    }
+
+    /**
+     * Converts the cell colours of the current theme to pixels, once per theme
+     *
+     * @return Whether the colours changed
+     */
+    private boolean updateColors() {
+        if (colorsTheme == BrickColorManager.getTheme()) {
+            return false;
+        }
+        colorsTheme = BrickColorManager.getTheme();
+        colors[0] = EMPTY_COLOR;
+        for (int id = 1; id < colors.length; id++) {
+            Paint paint = BrickColorManager.getColor(id);
+            Color color = paint instanceof Color ? (Color) paint : Color.WHITE;
+            colors[id] = 0xFF000000
+                         | (int) Math.round(color.getRed() * 255) << 16
+                         | (int) Math.round(color.getGreen() * 255) << 8
+                         | (int) Math.round(color.getBlue() * 255);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,187 @@
+package com.comp2042.ui.renderers;
+
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.bricks.ShapeTable;
+import com.comp2042.logic.rotation.RotationSystem;
+import com.comp2042.utils.BrickColorManager;
+import com.comp2042.utils.ColorTheme;
+import com.comp2042.utils.GameConstants;
+
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+/**
+ * Every brick of every rotation system pre-rendered into one image, so a renderer
+ * can show a whole brick with a single ImageView or drawImage call instead of
+ * styling one node or drawing one shape per cell.
+ * Each shape table gets one row of sprites: its rotations in the normal style,
+ * its rotations as a ghost, and its spawn rotation centered for the preview.
+ * Atlases are built on the JavaFX application thread, once per {@link ColorTheme},
+ * all of them at startup through {@link #buildAll()} so switching themes during play
+ * never renders or allocates.
+ */
+public final class SpriteAtlas {
+
+    /** Ways a brick is drawn */
+    public enum Style {
+        /** The falling brick, positioned like its shape matrix */
+        NORMAL,
+        /** The translucent landing preview, positioned like its shape matrix */
+        GHOST,
+        /** The next brick in its spawn rotation, centered in the sprite */
+        PREVIEW
+    }
+
+    /** Width and height of a sprite in cells, the largest shape matrix supported */
+    public static final int SPRITE_CELLS = 4;
+
+    /** Width and height of a sprite in pixels */
+    public static final double SPRITE_SIZE = SPRITE_CELLS * (GameConstants.BRICK_SIZE + GameConstants.BRICK_GAP)
+                                             - GameConstants.BRICK_GAP;
+
+    private static final double CELL = GameConstants.BRICK_SIZE + GameConstants.BRICK_GAP;
+    private static final double ARC = 9;
+    private static final int MAX_ROTATIONS = 4;
+    // Normal rotations, ghost rotations, then the preview
+    private static final int SLOTS_PER_TABLE = 2 * MAX_ROTATIONS + 1;
+
+    private static final Map<ColorTheme, SpriteAtlas> ATLASES = new EnumMap<>(ColorTheme.class);
+
+    private final WritableImage image;
+    private final Map<ShapeTable, Rectangle2D[]> sprites = new IdentityHashMap<>();
+
+    /**
+     * Builds the atlas of every colour theme that has none yet.
+     * Must be called on the JavaFX application thread.
+     */
+    public static void buildAll() {
+        for (ColorTheme theme : ColorTheme.values()) {
+            forTheme(theme);
+        }
+    }
+
+    /**
+     * Gets the atlas of the current colour theme.
+     */
+    public static SpriteAtlas current() {
+        return forTheme(BrickColorManager.getTheme());
+    }
+
+    /**
+     * Gets the atlas of a colour theme, building it if {@link #buildAll()} has not.
+     */
+    public static SpriteAtlas forTheme(ColorTheme theme) {
+        SpriteAtlas atlas = ATLASES.get(theme);
+        if (atlas == null) {
+            atlas = new SpriteAtlas(theme);
+            ATLASES.put(theme, atlas);
+        }
+        return atlas;
+    }
+
+    private SpriteAtlas(ColorTheme theme) {
+        // Rotation systems may share shape tables, each table gets a single row
+        Map<ShapeTable, Integer> rows = new IdentityHashMap<>();
+        for (RotationSystem system : RotationSystem.values()) {
+            for (BrickType type : BrickType.values()) {
+                ShapeTable table = system.getShapeTable(type);
+                if (table.getMatrixWidth() > SPRITE_CELLS || table.getRotationCount() > MAX_ROTATIONS) {
+                    throw new IllegalArgumentException("Shape of " + type + " does not fit in a sprite");
+                }
+                if (!rows.containsKey(table)) {
+                    rows.put(table, rows.size());
+                }
+            }
+        }
+
+        double slot = SPRITE_SIZE + GameConstants.BRICK_GAP;
+        Canvas canvas = new Canvas(SLOTS_PER_TABLE * slot, rows.size() * slot);
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setLineWidth(1);
+        for (Map.Entry<ShapeTable, Integer> row : rows.entrySet()) {
+            ShapeTable table = row.getKey();
+            double y = row.getValue() * slot;
+            Rectangle2D[] tableSprites = new Rectangle2D[SLOTS_PER_TABLE];
+            for (int rotation = 0; rotation < table.getRotationCount(); rotation++) {
+                double normalX = rotation * slot;
+                double ghostX = (MAX_ROTATIONS + rotation) * slot;
+                drawShape(gc, theme, table, rotation, normalX, y, 0, 0, Style.NORMAL);
+                drawShape(gc, theme, table, rotation, ghostX, y, 0, 0, Style.GHOST);
+                tableSprites[rotation] = new Rectangle2D(normalX, y, SPRITE_SIZE, SPRITE_SIZE);
+                tableSprites[MAX_ROTATIONS + rotation] = new Rectangle2D(ghostX, y, SPRITE_SIZE, SPRITE_SIZE);
+            }
+
+            // Center the spawn rotation in the preview sprite
+            double previewX = 2 * MAX_ROTATIONS * slot;
+            int offsetRow = (SPRITE_CELLS - table.getHeight(0)) / 2 - table.getMinRow(0);
+            int offsetCol = (SPRITE_CELLS - table.getWidth(0)) / 2 - table.getMinCol(0);
+            drawShape(gc, theme, table, 0, previewX, y, offsetRow, offsetCol, Style.PREVIEW);
+            tableSprites[2 * MAX_ROTATIONS] = new Rectangle2D(previewX, y, SPRITE_SIZE, SPRITE_SIZE);
+            sprites.put(table, tableSprites);
+        }
+
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        image = canvas.snapshot(parameters, null);
+    }
+
+    private static void drawShape(GraphicsContext gc, ColorTheme theme, ShapeTable table, int rotation,
+                                  double x, double y, int offsetRow, int offsetCol, Style style) {
+        int size = table.getMatrixWidth();
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                int id = table.getCell(rotation, i, j);
+                if (id == 0) {
+                    continue;
+                }
+                double px = x + (j + offsetCol) * CELL;
+                double py = y + (i + offsetRow) * CELL;
+                if (style == Style.GHOST) {
+                    gc.setFill(theme.getGhostFill(id));
+                    gc.fillRoundRect(px, py, GameConstants.BRICK_SIZE, GameConstants.BRICK_SIZE, ARC, ARC);
+                    gc.setStroke(theme.getGhostStroke(id));
+                    gc.strokeRoundRect(px + 0.5, py + 0.5, GameConstants.BRICK_SIZE - 1, GameConstants.BRICK_SIZE - 1, ARC, ARC);
+                } else {
+                    gc.setFill(theme.getFill(id));
+                    gc.fillRoundRect(px, py, GameConstants.BRICK_SIZE, GameConstants.BRICK_SIZE, ARC, ARC);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The image holding every sprite of this atlas
+     */
+    public WritableImage getImage() {
+        return image;
+    }
+
+    /**
+     * Gets the area of the atlas image holding one brick.
+     *
+     * @param table Shape table of the brick, from any rotation system
+     * @param rotation Rotation of the brick, ignored for {@link Style#PREVIEW}
+     * @param style How the brick is drawn
+     * @return The sprite's viewport in the atlas image, shared and immutable
+     */
+    public Rectangle2D getSprite(ShapeTable table, int rotation, Style style) {
+        Rectangle2D[] tableSprites = sprites.get(table);
+        if (tableSprites == null) {
+            throw new IllegalArgumentException("Shape table is not part of any rotation system");
+        }
+        switch (style) {
+            case GHOST: return tableSprites[MAX_ROTATIONS + rotation];
+            case PREVIEW: return tableSprites[2 * MAX_ROTATIONS];
+            case NORMAL:
+            default: return tableSprites[rotation];
+        }
+    }
+}
@@ -1,15 +1,17 @@
 package com.comp2042.utils;
 
-import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
 
 /**
  * Centralized color management for Tetris bricks.
- * Maps brick type identifiers to their corresponding colors.
- * This eliminates code duplication across multiple renderer classes.
+ * Maps brick type identifiers to the paints of the current {@link ColorTheme}.
+ * Lookups read precomputed tables, so they are safe to call for every cell on every refresh.
+ * The theme is only read and changed on the JavaFX application thread.
  */
 public class BrickColorManager {
 
+    private static ColorTheme theme = ColorTheme.fromSystemProperty();
+
     private BrickColorManager() {
         // Private constructor to prevent instantiation
     }
@@ -21,16 +23,39 @@ public class BrickColorManager {
      * @return The Paint color corresponding to the brick type
      */
     public static Paint getColor(int brickType) {
-        switch (brickType) {
-            case 0: return Color.TRANSPARENT;
-            case 1: return Color.AQUA;
-            case 2: return Color.BLUEVIOLET;
-            case 3: return Color.DARKGREEN;
-            case 4: return Color.YELLOW;
-            case 5: return Color.RED;
-            case 6: return Color.BEIGE;
-            case 7: return Color.BURLYWOOD;
-            default: return Color.WHITE;
-        }
+        return theme.getFill(brickType);
+    }
+
+    /**
+     * Gets the translucent fill of a ghost brick cell.
+     */
+    public static Paint getGhostFill(int brickType) {
+        return theme.getGhostFill(brickType);
+    }
+
+    /**
+     * Gets the outline of a ghost brick cell.
+     */
+    public static Paint getGhostStroke(int brickType) {
+        return theme.getGhostStroke(brickType);
+    }
+
+    /**
+     * Gets a lighter shade of the fill, used for flashes.
+     */
+    public static Paint getHighlight(int brickType) {
+        return theme.getHighlight(brickType);
+    }
+
+    public static ColorTheme getTheme() {
+        return theme;
+    }
+
+    /**
+     * Switches the theme. Renderers pick it up the next time they paint a cell,
+     * see {@link com.comp2042.ui.renderers.BoardRenderer#repaint()} to update a whole board.
+     */
+    public static void setTheme(ColorTheme newTheme) {
+        theme = newTheme;
     }
 }
@@ -0,0 +1,124 @@
+package com.comp2042.utils;
+
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+/**
+ * Brick colour palettes. Every paint a renderer needs is computed once per theme
+ * when the enum is loaded and kept in flat arrays indexed by brick id,
+ * so drawing and switching themes never allocate.
+ * The theme used at startup can be chosen with the {@code tetris.theme} system property,
+ * e.g. {@code -Dtetris.theme=colorblind}.
+ */
+public enum ColorTheme {
+
+    /** The original colours */
+    CLASSIC("#00FFFF", "#8A2BE2", "#006400", "#FFFF00", "#FF0000", "#F5F5DC", "#DEB887"),
+
+    /** Saturated colours with a strong lightness spread, for low-contrast displays */
+    HIGH_CONTRAST("#00FFFF", "#4D7CFF", "#FF8C00", "#FFFF00", "#00FF00", "#FF00FF", "#FF2020"),
+
+    /** Okabe-Ito palette, distinguishable with the common forms of colour blindness */
+    COLORBLIND("#56B4E9", "#0072B2", "#E69F00", "#F0E442", "#009E73", "#CC79A7", "#D55E00");
+
+    /** Name of the system property used to select the theme */
+    public static final String SYSTEM_PROPERTY = "tetris.theme";
+
+    private static final ColorTheme[] THEMES = values();
+
+    // Index 0 is the empty cell, 1-7 the brick ids
+    private final Paint[] fills = new Paint[8];
+    private final Paint[] ghostFills = new Paint[8];
+    private final Paint[] ghostStrokes = new Paint[8];
+    private final Paint[] outlines = new Paint[8];
+    private final Paint[] highlights = new Paint[8];
+
+    /**
+     * @param brickColors Web colours of brick ids 1 to 7
+     */
+    ColorTheme(String... brickColors) {
+        fills[0] = Color.TRANSPARENT;
+        ghostFills[0] = Color.TRANSPARENT;
+        ghostStrokes[0] = Color.TRANSPARENT;
+        outlines[0] = Color.TRANSPARENT;
+        highlights[0] = Color.TRANSPARENT;
+        for (int id = 1; id < fills.length; id++) {
+            Color color = Color.web(brickColors[id - 1]);
+            fills[id] = color;
+            ghostFills[id] = new Color(color.getRed(), color.getGreen(), color.getBlue(), 0.3);
+            ghostStrokes[id] = color.deriveColor(0, 1, 1, 0.5);
+            outlines[id] = color.darker();
+            highlights[id] = color.interpolate(Color.WHITE, 0.5);
+        }
+    }
+
+    /**
+     * Gets the fill of a cell.
+     *
+     * @param brickId The brick id, 0 for an empty cell
+     * @return The fill, white for ids outside the palette
+     */
+    public Paint getFill(int brickId) {
+        return lookup(fills, brickId);
+    }
+
+    /**
+     * Gets the translucent fill of a ghost brick cell.
+     */
+    public Paint getGhostFill(int brickId) {
+        return lookup(ghostFills, brickId);
+    }
+
+    /**
+     * Gets the outline of a ghost brick cell.
+     */
+    public Paint getGhostStroke(int brickId) {
+        return lookup(ghostStrokes, brickId);
+    }
+
+    /**
+     * Gets a darker shade of the fill for cell edges.
+     */
+    public Paint getOutline(int brickId) {
+        return lookup(outlines, brickId);
+    }
+
+    /**
+     * Gets a lighter shade of the fill for cell highlights.
+     */
+    public Paint getHighlight(int brickId) {
+        return lookup(highlights, brickId);
+    }
+
+    /**
+     * @return The theme after this one, wrapping around to the first
+     */
+    public ColorTheme next() {
+        return THEMES[(ordinal() + 1) % THEMES.length];
+    }
+
+    private static Paint lookup(Paint[] paints, int brickId) {
+        return brickId >= 0 && brickId < paints.length ? paints[brickId] : Color.WHITE;
+    }
+
+    /**
+     * Resolves the theme from the {@code tetris.theme} system property.
+     * Falls back to {@link #CLASSIC} when the property is missing or not recognised.
+     *
+     * @return The configured theme
+     */
+    public static ColorTheme fromSystemProperty() {
+        String value = System.getProperty(SYSTEM_PROPERTY);
+        if (value != null) {
+            // Accept high_contrast, high-contrast and highcontrast alike
+            String key = value.trim().replace("-", "").replace("_", "");
+            for (ColorTheme theme : THEMES) {
+                if (theme.name().replace("_", "").equalsIgnoreCase(key)) {
+                    return theme;
+                }
+            }
+            System.err.println("Unknown theme '" + value + "', using " + CLASSIC.name().toLowerCase());
+        }
+        return CLASSIC;
+    }
+}
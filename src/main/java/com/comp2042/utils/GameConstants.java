@@ -14,6 +14,7 @@ public final class GameConstants {
     }
 
     // ===== UI Dimensions =====
+    // Sizes and positions are logical units of the game area, see ScaleMode
 
     /** Size of each brick/block in pixels */
     public static final int BRICK_SIZE = 20;
@@ -44,6 +45,19 @@ public final class GameConstants {
     /** Y coordinate base position for player 2 game board */
     public static final double PLAYER2_BASE_Y = 57.0;  // 45 (BorderPane layoutY) + 12 (border)
 
+    // ===== Scene Dimensions =====
+
+    /** Width of the game area in logical units, scaled to the window by {@link ScaleMode} */
+    public static final double SCENE_WIDTH = 800;
+
+    /** Height of the game area in logical units, scaled to the window by {@link ScaleMode} */
+    public static final double SCENE_HEIGHT = 600;
+
+    // ===== Notifications =====
+
+    /** Most score popups shown at the same time */
+    public static final int MAX_SCORE_POPUPS = 3;
+
     // ===== File Paths =====
 
     /** Filename for storing high score data */
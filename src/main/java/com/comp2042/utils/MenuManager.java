@@ -1,6 +1,5 @@
 package com.comp2042.utils;
 
-import javafx.animation.Timeline;
 import javafx.beans.property.BooleanProperty;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.GridPane;
@@ -8,6 +7,8 @@ import javafx.scene.layout.VBox;
 import javafx.scene.text.Text;
 
 import com.comp2042.audio.AudioManager;
+import com.comp2042.game.simulation.GameCommand;
+import com.comp2042.game.simulation.GameSimulation;
 import com.comp2042.ui.panels.StartMenuPanel;
 import com.comp2042.ui.panels.PausePanel;
 import com.comp2042.ui.panels.ControlsPanel;
@@ -30,7 +31,7 @@ public class MenuManager {
     private final BorderPane gameBoard;
 
     private GridPane ghostBrickPanel;
-    private Timeline timeLine;
+    private GameSimulation simulation;
 
     public MenuManager(StartMenuPanel startMenuPanel, PausePanel pausePanel,
                       ControlsPanel controlsPanel, GameOverPanel gameOverPanel,
@@ -56,10 +57,10 @@ public class MenuManager {
     }
 
     /**
-     * Sets the timeline reference
+     * Sets the simulation reference
      */
-    public void setTimeline(Timeline timeLine) {
-        this.timeLine = timeLine;
+    public void setSimulation(GameSimulation simulation) {
+        this.simulation = simulation;
     }
 
     /**
@@ -90,8 +91,8 @@ public class MenuManager {
         if (gameBoard != null) {
             gameBoard.setVisible(false);
         }
-        if (timeLine != null) {
-            timeLine.stop();
+        if (simulation != null) {
+            simulation.submit(GameCommand.PAUSE);
         }
     }
 
@@ -140,8 +141,8 @@ public class MenuManager {
         isPause.setValue(Boolean.FALSE);
         isGameOver.setValue(Boolean.FALSE);
 
-        if (timeLine != null) {
-            timeLine.play();
+        if (simulation != null) {
+            simulation.submit(GameCommand.RESUME);
         }
         gamePanel.requestFocus();
     }
@@ -151,8 +152,8 @@ public class MenuManager {
      */
     public void showPauseMenu() {
         pausePanel.setVisible(true);
-        if (timeLine != null) {
-            timeLine.pause();
+        if (simulation != null) {
+            simulation.submit(GameCommand.PAUSE);
         }
     }
 
@@ -161,8 +162,8 @@ public class MenuManager {
      */
     public void hidePauseMenu() {
         pausePanel.setVisible(false);
-        if (timeLine != null) {
-            timeLine.play();
+        if (simulation != null) {
+            simulation.submit(GameCommand.RESUME);
         }
     }
 
@@ -171,8 +172,8 @@ public class MenuManager {
      */
     public void showGameOver() {
         gameOverPanel.setVisible(true);
-        if (timeLine != null) {
-            timeLine.stop();
+        if (simulation != null) {
+            simulation.submit(GameCommand.PAUSE);
         }
     }
 
@@ -180,8 +181,8 @@ public class MenuManager {
      * Returns to home menu (stops game and shows start menu)
      */
     public void returnToHome(BooleanProperty isPause, AudioManager audioManager) {
-        if (timeLine != null) {
-            timeLine.stop();
+        if (simulation != null) {
+            simulation.submit(GameCommand.PAUSE);
         }
         audioManager.stopAllAudio();
         isPause.setValue(Boolean.FALSE);
@@ -190,11 +191,11 @@ public class MenuManager {
     }
 
     /**
-     * Stops the timeline
+     * Pauses the simulation
      */
-    public void stopTimeline() {
-        if (timeLine != null) {
-            timeLine.stop();
+    public void pauseSimulation() {
+        if (simulation != null) {
+            simulation.submit(GameCommand.PAUSE);
         }
     }
 
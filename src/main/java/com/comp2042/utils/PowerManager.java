@@ -0,0 +1,114 @@
+package com.comp2042.utils;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import javafx.animation.Animation;
+import javafx.stage.Stage;
+
+/**
+ * Scales down the frame work of the game when nobody is watching it.
+ * Follows whether the window is focused or minimized and passes that on to every
+ * {@link ThrottledTimer} and registered {@link Animation}: loops are throttled while
+ * the window is in the background, and loops and animations are suspended while
+ * it is minimized and resumed where they were when it is restored.
+ * Registrations are weak, so the loops and animations of a replaced layout need no
+ * unregistering. Only used on the JavaFX application thread.
+ */
+public final class PowerManager {
+
+    /** How much of the window the player can see */
+    public enum WindowState {
+        /** Focused, every frame is drawn */
+        ACTIVE,
+        /** Visible but another window has the focus, frames are throttled */
+        BACKGROUND,
+        /** Minimized, nothing is drawn */
+        HIDDEN
+    }
+
+    private static final Set<ThrottledTimer> timers = Collections.newSetFromMap(new WeakHashMap<>());
+    private static final Set<Animation> animations = Collections.newSetFromMap(new WeakHashMap<>());
+    // Animations paused by minimizing, played again on restore
+    private static final Set<Animation> suspended = Collections.newSetFromMap(new WeakHashMap<>());
+    private static WindowState windowState = WindowState.ACTIVE;
+
+    private PowerManager() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Follows the focus and minimized state of the game window.
+     */
+    public static void watch(Stage stage) {
+        stage.iconifiedProperty().addListener((obs, oldVal, newVal) -> update(stage));
+        stage.focusedProperty().addListener((obs, oldVal, newVal) -> update(stage));
+        update(stage);
+    }
+
+    public static WindowState getWindowState() {
+        return windowState;
+    }
+
+    /**
+     * Pauses an animation while the window is minimized. Animations stopped or
+     * finished by their owner are left alone.
+     */
+    public static void register(Animation animation) {
+        animations.add(animation);
+    }
+
+    static void register(ThrottledTimer timer) {
+        timers.add(timer);
+    }
+
+    /**
+     * @param ignored Loop left out of the check, e.g. the one asking
+     * @return Whether any frame loop other than the given one is started and not idle
+     */
+    static boolean hasBusyLoop(ThrottledTimer ignored) {
+        for (ThrottledTimer timer : timers) {
+            if (timer != ignored && timer.isBusy()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Called when a frame loop is started, stopped or marked idle.
+     */
+    static void loopStateChanged() {
+        QualityGovernor.updateSampling();
+    }
+
+    private static void update(Stage stage) {
+        WindowState newState = stage.isIconified() ? WindowState.HIDDEN
+                               : stage.isFocused() ? WindowState.ACTIVE
+                               : WindowState.BACKGROUND;
+        if (newState == windowState) {
+            return;
+        }
+        windowState = newState;
+
+        for (ThrottledTimer timer : timers) {
+            timer.update();
+        }
+        if (newState == WindowState.HIDDEN) {
+            for (Animation animation : animations) {
+                if (animation.getStatus() == Animation.Status.RUNNING) {
+                    animation.pause();
+                    suspended.add(animation);
+                }
+            }
+        } else {
+            for (Animation animation : suspended) {
+                if (animation.getStatus() == Animation.Status.PAUSED) {
+                    animation.play();
+                }
+            }
+            suspended.clear();
+        }
+    }
+}
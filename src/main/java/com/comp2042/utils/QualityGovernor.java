@@ -0,0 +1,170 @@
+package com.comp2042.utils;
+
+import java.util.Arrays;
+
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+
+/**
+ * Adapts the {@link QualityLevel} to the frame time the machine actually achieves.
+ * Measures the time between JavaFX pulses and, once per window of frames, takes a
+ * high percentile of it: when that misses the frame budget the quality steps down,
+ * and after several windows with headroom it steps back up.
+ * The level can be pinned with the {@code tetris.quality} system property,
+ * e.g. {@code -Dtetris.quality=no_glow}; the default {@code auto} adapts.
+ * Frames are only measured while the window is focused, see {@link PowerManager},
+ * and while some {@link ThrottledTimer} is busy: behind pause and game over screens
+ * the frame loops idle and the governor's own loop is stopped with them.
+ * The level is only read and changed on the JavaFX application thread.
+ */
+public final class QualityGovernor {
+
+    /** Name of the system property used to pin the quality level */
+    public static final String SYSTEM_PROPERTY = "tetris.quality";
+
+    // 60 Hz frame time with some slack, a window's percentile above it steps down
+    private static final long FRAME_BUDGET_NANOS = 20_000_000L;
+    // Windows whose percentile stays below this count towards stepping up
+    private static final long HEADROOM_NANOS = 17_500_000L;
+    private static final int WINDOW_FRAMES = 120;
+    private static final double PERCENTILE = 0.95;
+    private static final int WINDOWS_TO_STEP_UP = 5;
+    // Longer gaps are stalls such as loading a layout, not rendering cost
+    private static final long MAX_FRAME_NANOS = 250_000_000L;
+
+    private static final ObjectProperty<QualityLevel> level = new SimpleObjectProperty<>(QualityLevel.FULL);
+    private static boolean adaptive = true;
+    private static int levelChanges;
+    private static long lastPercentileNanos;
+
+    private static final long[] frameNanos = new long[WINDOW_FRAMES];
+    private static final long[] sorted = new long[WINDOW_FRAMES];
+    private static int frames;
+    private static int goodWindows;
+    private static long lastPulseNanos;
+    private static ThrottledTimer timer;
+    private static boolean sampling;
+
+    private QualityGovernor() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Applies the {@code tetris.quality} system property and starts measuring frames.
+     * Does nothing if already started.
+     */
+    public static void start() {
+        if (timer != null) {
+            return;
+        }
+        String value = System.getProperty(SYSTEM_PROPERTY);
+        if (value != null && !value.trim().equalsIgnoreCase("auto")) {
+            QualityLevel pinned = QualityLevel.fromName(value);
+            if (pinned != null) {
+                level.set(pinned);
+                adaptive = false;
+                return;
+            }
+            System.err.println("Unknown quality level '" + value + "', adapting to frame time");
+        }
+        timer = new ThrottledTimer() {
+            @Override
+            protected void tick(long now) {
+                onPulse(now);
+            }
+        };
+        updateSampling();
+    }
+
+    /**
+     * Starts measuring frames when some frame loop is busy and stops when all of them
+     * are idle or stopped, as the pulses in between say nothing about rendering cost.
+     */
+    static void updateSampling() {
+        if (timer == null) {
+            return;
+        }
+        boolean busy = PowerManager.hasBusyLoop(timer);
+        if (busy == sampling) {
+            return;
+        }
+        sampling = busy;
+        // Start a fresh window, the gap since the last pulse is not a frame
+        frames = 0;
+        lastPulseNanos = 0;
+        if (busy) {
+            timer.start();
+        } else {
+            timer.stop();
+        }
+    }
+
+    public static QualityLevel getLevel() {
+        return level.get();
+    }
+
+    /**
+     * Gets the level as a property, for listeners that react to every change.
+     */
+    public static ReadOnlyObjectProperty<QualityLevel> levelProperty() {
+        return level;
+    }
+
+    /**
+     * @return The number of times the level changed since startup
+     */
+    public static int getLevelChanges() {
+        return levelChanges;
+    }
+
+    /**
+     * @return The frame time percentile of the last complete window in milliseconds, 0 before the first
+     */
+    public static double getFrameTimePercentileMillis() {
+        return lastPercentileNanos / 1e6;
+    }
+
+    private static void onPulse(long now) {
+        if (PowerManager.getWindowState() != PowerManager.WindowState.ACTIVE) {
+            // Throttled frames say nothing about rendering cost, start a fresh window on return
+            frames = 0;
+            lastPulseNanos = 0;
+            return;
+        }
+        long frame = now - lastPulseNanos;
+        lastPulseNanos = now;
+        if (frame <= 0 || frame > MAX_FRAME_NANOS) {
+            return;
+        }
+        frameNanos[frames++] = frame;
+        if (frames < WINDOW_FRAMES) {
+            return;
+        }
+        frames = 0;
+
+        System.arraycopy(frameNanos, 0, sorted, 0, WINDOW_FRAMES);
+        Arrays.sort(sorted);
+        lastPercentileNanos = sorted[(int) (PERCENTILE * (WINDOW_FRAMES - 1))];
+        if (!adaptive) {
+            return;
+        }
+
+        QualityLevel current = level.get();
+        if (lastPercentileNanos > FRAME_BUDGET_NANOS) {
+            goodWindows = 0;
+            changeLevel(current.lower());
+        } else if (lastPercentileNanos < HEADROOM_NANOS && ++goodWindows >= WINDOWS_TO_STEP_UP) {
+            goodWindows = 0;
+            changeLevel(current.higher());
+        }
+    }
+
+    private static void changeLevel(QualityLevel newLevel) {
+        if (newLevel == level.get()) {
+            return;
+        }
+        levelChanges++;
+        level.set(newLevel);
+    }
+}
@@ -0,0 +1,89 @@
+package com.comp2042.utils;
+
+/**
+ * Visual quality steps, from full quality to the cheapest rendering.
+ * Each step gives up one more effect than the one before it, in the order
+ * that frees the most render time for the least visible difference.
+ */
+public enum QualityLevel {
+
+    /** Every effect on */
+    FULL(true, true, true, 1),
+
+    /** No blur on the start menu pieces */
+    NO_BLUR(false, true, true, 1),
+
+    /** No blur, no glow on score popups */
+    NO_GLOW(false, false, true, 1),
+
+    /** No blur or glow, square board cells */
+    NO_ARCS(false, false, false, 1),
+
+    /** No blur or glow, square board cells and a quarter of the particles */
+    FEWER_PARTICLES(false, false, false, 0.25);
+
+    private static final QualityLevel[] LEVELS = values();
+
+    private final boolean blur;
+    private final boolean glow;
+    private final boolean roundedCells;
+    private final double particleScale;
+
+    QualityLevel(boolean blur, boolean glow, boolean roundedCells, double particleScale) {
+        this.blur = blur;
+        this.glow = glow;
+        this.roundedCells = roundedCells;
+        this.particleScale = particleScale;
+    }
+
+    public boolean hasBlur() {
+        return blur;
+    }
+
+    public boolean hasGlow() {
+        return glow;
+    }
+
+    /**
+     * @return Whether board cells are drawn with rounded corners
+     */
+    public boolean hasRoundedCells() {
+        return roundedCells;
+    }
+
+    /**
+     * @return The share of particles emitted, from 0 to 1
+     */
+    public double getParticleScale() {
+        return particleScale;
+    }
+
+    /**
+     * @return The next cheaper level, or this one if it is the cheapest
+     */
+    public QualityLevel lower() {
+        return LEVELS[Math.min(ordinal() + 1, LEVELS.length - 1)];
+    }
+
+    /**
+     * @return The next better level, or this one if it is the best
+     */
+    public QualityLevel higher() {
+        return LEVELS[Math.max(ordinal() - 1, 0)];
+    }
+
+    /**
+     * Finds a level by name, accepting no_blur, no-blur and noblur alike.
+     *
+     * @return The level, or null if the name is not recognised
+     */
+    public static QualityLevel fromName(String name) {
+        String key = name.trim().replace("-", "").replace("_", "");
+        for (QualityLevel level : LEVELS) {
+            if (level.name().replace("_", "").equalsIgnoreCase(key)) {
+                return level;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,61 @@
+package com.comp2042.utils;
+
+/**
+ * Ways the game area is scaled to the window.
+ * The game is laid out in logical units of {@link GameConstants#SCENE_WIDTH} by
+ * {@link GameConstants#SCENE_HEIGHT}; the mode decides the factor applied to all of it.
+ * The mode can be chosen at startup with the {@code tetris.scale} system property,
+ * e.g. {@code -Dtetris.scale=integer}.
+ */
+public enum ScaleMode {
+
+    /** Fill as much of the window as possible, at any factor */
+    FIT,
+
+    /**
+     * Use the largest whole factor that fits, so every logical pixel covers the same
+     * number of screen pixels and sprites stay sharp. Windows smaller than the game
+     * area still shrink it to fit.
+     */
+    INTEGER;
+
+    /** Name of the system property used to select the scale mode */
+    public static final String SYSTEM_PROPERTY = "tetris.scale";
+
+    /**
+     * Gets the factor that maps the game area onto a window of the given size.
+     */
+    public double getScale(double windowWidth, double windowHeight) {
+        double fit = Math.min(windowWidth / GameConstants.SCENE_WIDTH, windowHeight / GameConstants.SCENE_HEIGHT);
+        if (this == INTEGER && fit >= 1) {
+            return Math.floor(fit);
+        }
+        return fit;
+    }
+
+    /**
+     * @return Whether images should be scaled without smoothing, pixel for pixel
+     */
+    public boolean isPixelExact() {
+        return this == INTEGER;
+    }
+
+    /**
+     * Resolves the scale mode from the {@code tetris.scale} system property.
+     * Falls back to {@link #FIT} when the property is missing or not recognised.
+     *
+     * @return The configured scale mode
+     */
+    public static ScaleMode fromSystemProperty() {
+        String value = System.getProperty(SYSTEM_PROPERTY);
+        if (value != null) {
+            for (ScaleMode mode : values()) {
+                if (mode.name().equalsIgnoreCase(value.trim())) {
+                    return mode;
+                }
+            }
+            System.err.println("Unknown scale mode '" + value + "', using " + FIT.name().toLowerCase());
+        }
+        return FIT;
+    }
+}
@@ -0,0 +1,89 @@
+package com.comp2042.utils;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * Frame loop that follows the {@link PowerManager}: it runs every pulse while the
+ * window is in use, only a few times per second while the window is in the
+ * background or the loop is marked idle, and not at all while the window is minimized.
+ * Resuming continues with the current frame time, so loops that move things by
+ * elapsed time pick up where they were.
+ * Starting, stopping or idling a loop is passed on to the {@link PowerManager},
+ * so the {@link QualityGovernor} only samples frames while some loop is busy.
+ */
+public abstract class ThrottledTimer extends AnimationTimer {
+
+    // Time between frames while throttled, 10 frames per second
+    private static final long THROTTLED_FRAME_NANOS = 100_000_000L;
+
+    private boolean started;
+    private boolean idle;
+    private long lastFrameNanos;
+
+    protected ThrottledTimer() {
+        PowerManager.register(this);
+    }
+
+    /**
+     * Runs one frame of the loop.
+     *
+     * @param now The frame time in nanoseconds
+     */
+    protected abstract void tick(long now);
+
+    @Override
+    public final void handle(long now) {
+        boolean throttled = idle || PowerManager.getWindowState() == PowerManager.WindowState.BACKGROUND;
+        if (throttled && now - lastFrameNanos < THROTTLED_FRAME_NANOS) {
+            return;
+        }
+        lastFrameNanos = now;
+        tick(now);
+    }
+
+    /**
+     * Starts the loop, or marks it to start once the window is restored.
+     */
+    @Override
+    public void start() {
+        started = true;
+        update();
+        PowerManager.loopStateChanged();
+    }
+
+    @Override
+    public void stop() {
+        started = false;
+        super.stop();
+        PowerManager.loopStateChanged();
+    }
+
+    /**
+     * Marks the loop as idle, e.g. while a menu covers what it draws, so it only runs a few times per second.
+     */
+    public void setIdle(boolean idle) {
+        if (idle == this.idle) {
+            return;
+        }
+        this.idle = idle;
+        PowerManager.loopStateChanged();
+    }
+
+    /**
+     * @return Whether the loop is started and not idle, regardless of the window state
+     */
+    boolean isBusy() {
+        return started && !idle;
+    }
+
+    /**
+     * Runs or suspends the loop to match the window state.
+     */
+    void update() {
+        if (started && PowerManager.getWindowState() != PowerManager.WindowState.HIDDEN) {
+            super.start();
+        } else {
+            super.stop();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.comp2042.game.clock;
+
+import com.comp2042.game.models.BoardType;
+import com.comp2042.game.models.GameSession;
+import com.comp2042.game.simulation.BoardSnapshot;
+import com.comp2042.game.simulation.GameCommand;
+import com.comp2042.game.simulation.GameSimulation;
+import com.comp2042.game.simulation.GameSnapshot;
+import com.comp2042.logic.bricks.RandomizerType;
+import com.comp2042.logic.rotation.RotationSystem;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualGameClockTest {
+
+    // Ticks per row at level 1, where a row takes 400 ms
+    private static final int TICKS_PER_ROW = 24;
+
+    @Test
+    void ticksRunListenersAndMoveVirtualTime() {
+        VirtualGameClock clock = new VirtualGameClock();
+        int[] ticks = new int[1];
+        clock.addListener(() -> ticks[0]++);
+
+        // A stopped clock does not tick
+        clock.advanceTicks(5);
+        assertEquals(0, ticks[0]);
+
+        clock.start();
+        clock.advanceTicks(90);
+        assertEquals(90, ticks[0]);
+        assertEquals(90, clock.getTickCount());
+        assertEquals(90 * GameClock.NANOS_PER_TICK, clock.getNanoTime());
+        assertEquals(clock.getNanoTime(), clock.getLastTickNanos());
+
+        clock.addListener(clock::stop);
+        clock.advanceTicks(10);
+        assertEquals(91, ticks[0]);
+    }
+
+    @Test
+    void gravityFollowsVirtualTicks() {
+        VirtualGameClock clock = new VirtualGameClock();
+        GameSimulation simulation = new GameSimulation(clock, true, newSession(3));
+        simulation.step();
+        int spawnY = simulation.pollSnapshot().getBoard(0).getViewData().getyPosition();
+
+        clock.advanceTicks(3 * TICKS_PER_ROW);
+        simulation.step();
+        BoardSnapshot board = simulation.pollSnapshot().getBoard(0);
+        assertEquals(spawnY + 3, board.getViewData().getyPosition());
+        assertEquals(0, board.getFallOffset(clock.getNanoTime()), 1e-9);
+
+        // Half way to the next row nothing new is published, the brick is drawn half a row lower
+        clock.advanceTicks(TICKS_PER_ROW / 2);
+        simulation.step();
+        assertNull(simulation.pollSnapshot());
+        assertEquals(0.5, board.getFallOffset(clock.getNanoTime()), 1e-6);
+    }
+
+    @Test
+    void sameCommandsAndTicksGiveTheSameGames() {
+        GameSnapshot first = play(17);
+        GameSnapshot second = play(17);
+        for (int i = 0; i < first.getBoardCount(); i++) {
+            BoardSnapshot a = first.getBoard(i);
+            BoardSnapshot b = second.getBoard(i);
+            assertArrayEquals(a.getBoardMatrix(), b.getBoardMatrix());
+            assertEquals(a.getScore(), b.getScore());
+            assertEquals(a.getLandings(), b.getLandings());
+            assertEquals(a.getViewData().getxPosition(), b.getViewData().getxPosition());
+            assertEquals(a.getViewData().getyPosition(), b.getViewData().getyPosition());
+            assertTrue(a.getLandings() > 100, "Only " + a.getLandings() + " bricks landed");
+        }
+    }
+
+    private static GameSnapshot play(long seed) {
+        VirtualGameClock clock = new VirtualGameClock();
+        GameSimulation simulation = new GameSimulation(clock, false, newSession(seed), newSession(seed + 1));
+        Random random = new Random(seed);
+        GameCommand[] commands = {GameCommand.MOVE_LEFT, GameCommand.MOVE_RIGHT, GameCommand.ROTATE_CLOCKWISE,
+                                  GameCommand.SOFT_DROP, GameCommand.HARD_DROP};
+        GameSnapshot last = null;
+        for (int round = 0; round < 5000; round++) {
+            simulation.submit(random.nextInt(2), commands[random.nextInt(commands.length)]);
+            clock.advanceTicks(random.nextInt(4));
+            simulation.step();
+            GameSnapshot snapshot = simulation.pollSnapshot();
+            if (snapshot != null) {
+                last = snapshot;
+            }
+        }
+        return last;
+    }
+
+    private static GameSession newSession(long seed) {
+        GameSession session = new GameSession(BoardType.SIMPLE.createBoard(BoardType.ROWS, BoardType.COLUMNS,
+                                                                           RotationSystem.SRS,
+                                                                           RandomizerType.BAG7.create(seed)));
+        session.start();
+        return session;
+    }
+}
@@ -0,0 +1,136 @@
+package com.comp2042.game.models;
+
+import com.comp2042.logic.bricks.RandomizerType;
+import com.comp2042.logic.rotation.RotationDirection;
+import com.comp2042.logic.rotation.RotationSystem;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that moving, rotating, dropping, merging and clearing rows do not allocate
+ * once the code is warmed up, using the JVM's per-thread allocation counter.
+ * The view data handed to renderers is built on purpose and is not part of this path,
+ * nor is starting a new game, which re-creates the random source of the brick sequence.
+ */
+class BoardAllocationTest {
+
+    private static final int WARM_UP_ROUNDS = 200_000;
+    private static final int MEASURED_ROUNDS = 200_000;
+    // Slack for the counter itself and anything the JVM does on this thread now and then
+    private static final long ALLOWED_BYTES = 4096;
+
+    private com.sun.management.ThreadMXBean threads;
+    private int linesCleared;
+    private long newGameBytes;
+
+    @Test
+    void simpleBoardHotPathDoesNotAllocate() {
+        assertNoAllocation(new SimpleBoard(25, 10, RotationSystem.SRS, RandomizerType.BAG7.create(1)));
+    }
+
+    @Test
+    void bitboardHotPathDoesNotAllocate() {
+        assertNoAllocation(new BitboardBoard(25, 10, RotationSystem.SRS, RandomizerType.BAG7.create(1)));
+    }
+
+    private void assertNoAllocation(Board board) {
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assertTrue(threads.isThreadAllocatedMemorySupported(), "Allocation counting is not supported by this JVM");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        // The whole script is rolled up front so the random source is not measured
+        int[] script = new int[WARM_UP_ROUNDS + MEASURED_ROUNDS];
+        Random random = new Random(7);
+        for (int i = 0; i < script.length; i++) {
+            script[i] = random.nextInt(10);
+        }
+
+        board.newGame();
+        play(board, script, 0, WARM_UP_ROUNDS);
+        linesCleared = 0;
+        newGameBytes = 0;
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        play(board, script, WARM_UP_ROUNDS, script.length);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before - newGameBytes;
+
+        assertTrue(linesCleared > 0, "No rows were cleared while measuring");
+        assertTrue(allocated <= ALLOWED_BYTES,
+                   allocated + " bytes allocated in " + MEASURED_ROUNDS + " rounds");
+    }
+
+    private void play(Board board, int[] script, int from, int to) {
+        for (int i = from; i < to; i++) {
+            switch (script[i]) {
+                case 0:
+                    board.moveBrickLeft();
+                    break;
+                case 1:
+                    board.moveBrickRight();
+                    break;
+                case 2:
+                    board.rotateBrick(RotationDirection.CLOCKWISE);
+                    break;
+                case 3:
+                    board.rotateBrick(RotationDirection.COUNTER_CLOCKWISE);
+                    break;
+                case 4:
+                    board.rotateBrick(RotationDirection.HALF_TURN);
+                    break;
+                case 5:
+                case 6:
+                    if (!board.moveBrickDown()) {
+                        land(board);
+                    }
+                    break;
+                case 7:
+                    board.hardDrop();
+                    land(board);
+                    break;
+                default:
+                    moveToDeepestColumn(board);
+                    board.hardDrop();
+                    land(board);
+                    break;
+            }
+        }
+    }
+
+    private void land(Board board) {
+        linesCleared += board.landBrickAndClearRows().getLinesRemoved();
+        if (board.createNewBrick()) {
+            long before = threads.getCurrentThreadAllocatedBytes();
+            board.newGame();
+            newGameBytes += threads.getCurrentThreadAllocatedBytes() - before;
+        }
+    }
+
+    /**
+     * Slides the brick to the column where it would land lowest, so rows fill up and clear
+     */
+    private static void moveToDeepestColumn(Board board) {
+        while (board.moveBrickLeft()) {
+            // Start from the left wall
+        }
+        int best = 0;
+        int bestY = board.getGhostYPosition();
+        for (int column = 1; board.moveBrickRight(); column++) {
+            int y = board.getGhostYPosition();
+            if (y > bestY) {
+                bestY = y;
+                best = column;
+            }
+        }
+        while (board.moveBrickLeft()) {
+            // Back to the left wall
+        }
+        for (int column = 0; column < best; column++) {
+            board.moveBrickRight();
+        }
+    }
+}
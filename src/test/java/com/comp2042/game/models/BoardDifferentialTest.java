@@ -0,0 +1,187 @@
+package com.comp2042.game.models;
+
+import com.comp2042.game.events.ClearRow;
+import com.comp2042.logic.bricks.RandomizerType;
+import com.comp2042.logic.bricks.ShapeTable;
+import com.comp2042.logic.rotation.RotationDirection;
+import com.comp2042.logic.rotation.RotationSystem;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Plays the same random script of moves, rotations, drops and clears on a
+ * {@link SimpleBoard} and a {@link BitboardBoard} and checks that they never disagree.
+ * The ghost position is also checked against a plain scan of the board, which covers
+ * both the column surface index and its fallback for bricks tucked under overhangs.
+ */
+class BoardDifferentialTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+    private static final int SEEDS = 40;
+    private static final int STEPS = 2000;
+
+    private int linesCleared;
+    private int multiLineClears;
+
+    @Test
+    void boardsAgreeOnRandomScripts() {
+        for (RotationSystem system : RotationSystem.values()) {
+            for (long seed = 0; seed < SEEDS; seed++) {
+                play(system, seed);
+            }
+        }
+        // The script must actually reach the row clearing code to be worth anything
+        assertTrue(linesCleared > 100, "Only " + linesCleared + " lines cleared");
+        assertTrue(multiLineClears > 0, "No clear removed more than one row");
+    }
+
+    private void play(RotationSystem system, long seed) {
+        Board simple = new SimpleBoard(ROWS, COLUMNS, system, RandomizerType.BAG7.create(seed));
+        Board bitboard = new BitboardBoard(ROWS, COLUMNS, system, RandomizerType.BAG7.create(seed));
+        simple.newGame();
+        bitboard.newGame();
+        Random random = new Random(seed);
+        for (int step = 0; step < STEPS; step++) {
+            String where = system + " seed " + seed + " step " + step;
+            int action = random.nextInt(10);
+            if (action == 9) {
+                // Steer both boards to the deepest landing spot so rows actually fill up
+                int rotations = random.nextInt(4);
+                for (int i = 0; i < rotations; i++) {
+                    assertEquals(simple.rotateBrick(RotationDirection.CLOCKWISE),
+                                 bitboard.rotateBrick(RotationDirection.CLOCKWISE), where);
+                }
+                int target = deepestColumn(simple, random);
+                while (simple.getViewData().getxPosition() > target && simple.moveBrickLeft()) {
+                    assertTrue(bitboard.moveBrickLeft(), where);
+                }
+                while (simple.getViewData().getxPosition() < target && simple.moveBrickRight()) {
+                    assertTrue(bitboard.moveBrickRight(), where);
+                }
+                action = 8;
+            }
+            switch (action) {
+                case 0:
+                case 1:
+                    assertEquals(simple.moveBrickLeft(), bitboard.moveBrickLeft(), where);
+                    break;
+                case 2:
+                case 3:
+                    assertEquals(simple.moveBrickRight(), bitboard.moveBrickRight(), where);
+                    break;
+                case 4:
+                    RotationDirection direction = RotationDirection.values()[random.nextInt(3)];
+                    assertEquals(simple.rotateBrick(direction), bitboard.rotateBrick(direction), where);
+                    break;
+                case 5:
+                case 6:
+                case 7:
+                    boolean moved = simple.moveBrickDown();
+                    assertEquals(moved, bitboard.moveBrickDown(), where);
+                    if (!moved) {
+                        land(simple, bitboard, where);
+                    }
+                    break;
+                default:
+                    simple.hardDrop();
+                    bitboard.hardDrop();
+                    land(simple, bitboard, where);
+                    break;
+            }
+            assertSameState(simple, bitboard, where);
+        }
+    }
+
+    private void land(Board simple, Board bitboard, String where) {
+        ClearRow simpleClear = simple.landBrickAndClearRows();
+        ClearRow bitboardClear = bitboard.landBrickAndClearRows();
+        assertEquals(simpleClear.getLinesRemoved(), bitboardClear.getLinesRemoved(), where);
+        assertEquals(simpleClear.getScoreBonus(), bitboardClear.getScoreBonus(), where);
+        assertArrayEquals(simpleClear.getClearedRows(), bitboardClear.getClearedRows(), where);
+        linesCleared += simpleClear.getLinesRemoved();
+        if (simpleClear.getLinesRemoved() > 1) {
+            multiLineClears++;
+        }
+
+        boolean toppedOut = simple.createNewBrick();
+        assertEquals(toppedOut, bitboard.createNewBrick(), where);
+        if (toppedOut) {
+            simple.newGame();
+            bitboard.newGame();
+        }
+    }
+
+    private static void assertSameState(Board simple, Board bitboard, String where) {
+        assertTrue(Arrays.deepEquals(simple.getBoardMatrix(), bitboard.getBoardMatrix()), where);
+        ViewData simpleView = simple.getViewData();
+        ViewData bitboardView = bitboard.getViewData();
+        assertEquals(simpleView.getBrickShapes(), bitboardView.getBrickShapes(), where);
+        assertEquals(simpleView.getRotation(), bitboardView.getRotation(), where);
+        assertEquals(simpleView.getxPosition(), bitboardView.getxPosition(), where);
+        assertEquals(simpleView.getyPosition(), bitboardView.getyPosition(), where);
+        assertEquals(simpleView.getNextBrickShapes(), bitboardView.getNextBrickShapes(), where);
+        assertEquals(scanGhostY(simple.getBoardMatrix(), simpleView), simpleView.getGhostYPosition(), where);
+        assertEquals(simpleView.getGhostYPosition(), bitboardView.getGhostYPosition(), where);
+        assertEquals(simple.getScore().getScore(), bitboard.getScore().getScore(), where);
+        assertEquals(simple.getScore().getLinesCleared(), bitboard.getScore().getLinesCleared(), where);
+        assertEquals(simple.getScore().getLevel(), bitboard.getScore().getLevel(), where);
+    }
+
+    /**
+     * Column with the lowest landing spot for the brick as it is rotated now, ties broken at random
+     */
+    private static int deepestColumn(Board board, Random random) {
+        ViewData view = board.getViewData();
+        ShapeTable table = view.getBrickShapes();
+        int rotation = view.getRotation();
+        int best = view.getxPosition();
+        int bestY = -1;
+        for (int x = -table.getMinCol(rotation); x + table.getMaxCol(rotation) < COLUMNS; x++) {
+            if (collides(board.getBoardMatrix(), table, rotation, x, view.getyPosition())) {
+                continue;
+            }
+            int y = view.getyPosition();
+            while (!collides(board.getBoardMatrix(), table, rotation, x, y + 1)) {
+                y++;
+            }
+            if (y > bestY || (y == bestY && random.nextBoolean())) {
+                bestY = y;
+                best = x;
+            }
+        }
+        return best;
+    }
+
+    private static int scanGhostY(int[][] matrix, ViewData view) {
+        int y = view.getyPosition();
+        while (!collides(matrix, view.getBrickShapes(), view.getRotation(), view.getxPosition(), y + 1)) {
+            y++;
+        }
+        return y;
+    }
+
+    private static boolean collides(int[][] matrix, ShapeTable table, int rotation, int x, int y) {
+        int size = table.getMatrixWidth();
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                if (table.getCell(rotation, i, j) == 0) {
+                    continue;
+                }
+                int row = y + i;
+                int col = x + j;
+                if (row < 0 || row >= matrix.length || col < 0 || col >= matrix[0].length || matrix[row][col] != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
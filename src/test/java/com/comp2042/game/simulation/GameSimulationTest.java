@@ -0,0 +1,155 @@
+package com.comp2042.game.simulation;
+
+import com.comp2042.game.clock.VirtualGameClock;
+import com.comp2042.game.models.BoardType;
+import com.comp2042.game.models.GameSession;
+import com.comp2042.game.models.SimpleBoard;
+import com.comp2042.game.models.ViewData;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.bricks.RandomizerType;
+import com.comp2042.logic.rotation.RotationSystem;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives simulations through {@link GameSimulation#step()} on the test thread,
+ * so the same command and tick path as the simulation thread runs without wall time.
+ */
+class GameSimulationTest {
+
+    private static GameSession newSession(long seed) {
+        GameSession session = new GameSession(BoardType.SIMPLE.createBoard(BoardType.ROWS, BoardType.COLUMNS,
+                                                                           RotationSystem.SRS,
+                                                                           RandomizerType.BAG7.create(seed)));
+        session.start();
+        return session;
+    }
+
+    @Test
+    void commandsAreAppliedAndPublishedByStep() {
+        GameSimulation simulation = new GameSimulation(new VirtualGameClock(), true, newSession(1), newSession(2));
+        simulation.step();
+        GameSnapshot first = simulation.pollSnapshot();
+        assertNotNull(first);
+        int spawnX = first.getBoard(0).getViewData().getxPosition();
+
+        // Nothing changed, nothing is published
+        simulation.step();
+        assertNull(simulation.pollSnapshot());
+
+        simulation.submit(0, GameCommand.MOVE_LEFT);
+        simulation.submit(1, GameCommand.MOVE_RIGHT);
+        simulation.submit(1, GameCommand.HARD_DROP);
+        simulation.step();
+        GameSnapshot moved = simulation.pollSnapshot();
+        assertNotNull(moved);
+        assertEquals(spawnX - 1, moved.getBoard(0).getViewData().getxPosition());
+        assertEquals(0, moved.getBoard(0).getLandings());
+        assertEquals(1, moved.getBoard(1).getLandings());
+        assertEquals(1, moved.getBoard(1).getHardDrops());
+        assertEquals(spawnX + 1, moved.getBoard(1).getLastHardDrop().getxPosition());
+    }
+
+    @Test
+    void brickCommandsAreIgnoredWhilePaused() {
+        GameSimulation simulation = new GameSimulation(new VirtualGameClock(), true, newSession(1));
+        simulation.step();
+        ViewData before = simulation.pollSnapshot().getBoard(0).getViewData();
+
+        simulation.submit(GameCommand.PAUSE);
+        simulation.submit(0, GameCommand.MOVE_LEFT);
+        simulation.submit(0, GameCommand.HARD_DROP);
+        simulation.step();
+        BoardSnapshot paused = simulation.pollSnapshot().getBoard(0);
+        assertEquals(before.getxPosition(), paused.getViewData().getxPosition());
+        assertEquals(0, paused.getLandings());
+
+        simulation.submit(GameCommand.RESUME);
+        simulation.submit(0, GameCommand.MOVE_LEFT);
+        simulation.step();
+        assertEquals(before.getxPosition() - 1, simulation.pollSnapshot().getBoard(0).getViewData().getxPosition());
+    }
+
+    @Test
+    void snapshotsCarryEveryClearTheReaderHasNotSeen() {
+        GameSimulation simulation = new GameSimulation(new VirtualGameClock(), true, newOSession());
+        simulation.step();
+        simulation.pollSnapshot();
+
+        // Two clears in one step and one more in the next, in snapshots the reader skips
+        clearTwoRows(simulation);
+        clearTwoRows(simulation);
+        simulation.step();
+        clearTwoRows(simulation);
+        simulation.step();
+        simulation.submit(0, GameCommand.MOVE_LEFT);
+        simulation.step();
+
+        BoardSnapshot board = simulation.pollSnapshot().getBoard(0);
+        assertEquals(3, board.getClears());
+        assertEquals(1, board.getFirstClear());
+        for (int clear = 1; clear <= 3; clear++) {
+            assertEquals(2, board.getClearedRowCount(clear));
+            assertEquals(BoardType.ROWS - 2, board.getClearedRow(clear, 0));
+            assertEquals(BoardType.ROWS - 1, board.getClearedRow(clear, 1));
+            assertEquals(200, board.getScoreBonus(clear));
+        }
+
+        // Once a snapshot holding them was taken, the clears are no longer carried
+        for (int i = 0; i < 2; i++) {
+            simulation.submit(0, GameCommand.MOVE_LEFT);
+            simulation.step();
+            board = simulation.pollSnapshot().getBoard(0);
+        }
+        assertEquals(3, board.getClears());
+        assertTrue(board.getFirstClear() > 3, "Still carries clear " + board.getFirstClear());
+    }
+
+    /**
+     * Queues five O bricks dropped side by side, which fill the bottom two rows.
+     */
+    private static void clearTwoRows(GameSimulation simulation) {
+        for (int brick = 0; brick < BoardType.COLUMNS / 2; brick++) {
+            // The O spawns over columns 4 and 5
+            int shift = 2 * brick - 4;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                simulation.submit(0, shift < 0 ? GameCommand.MOVE_LEFT : GameCommand.MOVE_RIGHT);
+            }
+            simulation.submit(0, GameCommand.HARD_DROP);
+        }
+    }
+
+    private static GameSession newOSession() {
+        BrickGenerator onlyO = new BrickGenerator() {
+            @Override
+            public BrickType getBrick() {
+                return BrickType.O;
+            }
+
+            @Override
+            public BrickType getNextBrick() {
+                return BrickType.O;
+            }
+
+            @Override
+            public BrickType peek(int n) {
+                return BrickType.O;
+            }
+
+            @Override
+            public void reset() {
+                // Always an O
+            }
+        };
+        GameSession session = new GameSession(new SimpleBoard(BoardType.ROWS, BoardType.COLUMNS, RotationSystem.SRS,
+                                                              onlyO));
+        session.start();
+        return session;
+    }
+}
@@ -0,0 +1,33 @@
+package com.comp2042.game.simulation;
+
+import com.comp2042.game.models.BoardType;
+import com.comp2042.logic.bricks.RandomizerType;
+import com.comp2042.logic.rotation.RotationSystem;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HeadlessRunnerTest {
+
+    @Test
+    void botPlaysWholeGamesWithoutADisplay() {
+        for (BoardType type : BoardType.values()) {
+            BoardSnapshot board = new HeadlessRunner(type, RotationSystem.SRS, RandomizerType.BAG7, 42).play(300);
+            assertEquals(300, board.getLandings(), type + " game ended early");
+            assertTrue(board.getLinesCleared() > 50, type + " cleared only " + board.getLinesCleared() + " lines");
+        }
+    }
+
+    @Test
+    void sameSeedPlaysTheSameGame() {
+        BoardSnapshot first = new HeadlessRunner(BoardType.BITBOARD, RotationSystem.CLASSIC, RandomizerType.HISTORY, 9)
+                .play(200);
+        BoardSnapshot second = new HeadlessRunner(BoardType.BITBOARD, RotationSystem.CLASSIC, RandomizerType.HISTORY, 9)
+                .play(200);
+        assertEquals(first.getScore(), second.getScore());
+        assertArrayEquals(first.getBoardMatrix(), second.getBoardMatrix());
+    }
+}
@@ -0,0 +1,109 @@
+package com.comp2042.logic.bricks;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Draws a quarter of a billion bricks from every randomizer, spread over many seeds
+ * and all cores. Too slow for the default test run, see the {@code stress} profile in the pom.
+ */
+@Tag("stress")
+class RandomizerStressTest {
+
+    private static final int SEEDS = 64;
+    private static final int BRICKS_PER_SEED = 4_000_000;
+    // Chi-squared value with 6 degrees of freedom exceeded by chance 0.1% of the time,
+    // split over the per-seed and pooled checks of one randomizer
+    private static final double CHI_SQUARED_LIMIT = 33.663;
+
+    @Test
+    void uniformGeneratorStaysUniformOverManySeeds() {
+        assertUniform(RandomizerType.UNIFORM, 0);
+    }
+
+    @Test
+    void historyGeneratorStaysUniformOverManySeeds() {
+        assertUniform(RandomizerType.HISTORY, 0);
+    }
+
+    @Test
+    void sevenBagsStayCompleteOverManySeeds() {
+        assertUniform(RandomizerType.BAG7, 1);
+    }
+
+    @Test
+    void fourteenBagsStayCompleteOverManySeeds() {
+        assertUniform(RandomizerType.BAG14, 2);
+    }
+
+    /**
+     * Checks the brick counts of every seed and of all seeds together.
+     *
+     * @param copies Number of times a bag holds each brick, 0 for randomizers without bags
+     */
+    private static void assertUniform(RandomizerType type, int copies) {
+        // Consecutive seeds, as the spectator wall uses. Seeds a multiple of the SplittableRandom
+        // gamma apart would give the same sequence shifted by a few bricks
+        List<long[]> perSeed = IntStream.range(0, SEEDS).parallel()
+                .mapToObj(i -> draw(type, i, copies))
+                .toList();
+
+        long[] pooled = new long[BrickType.count()];
+        for (int i = 0; i < SEEDS; i++) {
+            long[] counts = perSeed.get(i);
+            double chiSquared = chiSquared(counts);
+            assertTrue(chiSquared < CHI_SQUARED_LIMIT, type + " seed " + i + " chi-squared " + chiSquared);
+            for (int b = 0; b < pooled.length; b++) {
+                pooled[b] += counts[b];
+            }
+        }
+        double chiSquared = chiSquared(pooled);
+        assertTrue(chiSquared < CHI_SQUARED_LIMIT, type + " pooled chi-squared " + chiSquared);
+    }
+
+    /**
+     * Draws one seed's bricks, checking every bag on the way when the randomizer has bags.
+     */
+    private static long[] draw(RandomizerType type, long seed, int copies) {
+        AbstractBrickGenerator generator = type.create(seed);
+        long[] counts = new long[BrickType.count()];
+        int bagSize = BrickType.count() * copies;
+        int[] bag = new int[BrickType.count()];
+        int inBag = 0;
+        for (int i = 0; i < BRICKS_PER_SEED; i++) {
+            int brick = generator.getBrick().ordinal();
+            counts[brick]++;
+            if (copies == 0) {
+                continue;
+            }
+            bag[brick]++;
+            if (++inBag == bagSize) {
+                for (int b = 0; b < bag.length; b++) {
+                    assertEquals(copies, bag[b], type + " seed " + seed + " bag ending at brick " + i);
+                    bag[b] = 0;
+                }
+                inBag = 0;
+            }
+        }
+        return counts;
+    }
+
+    private static double chiSquared(long[] counts) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        double expected = (double) total / counts.length;
+        double chiSquared = 0;
+        for (long count : counts) {
+            chiSquared += (count - expected) * (count - expected) / expected;
+        }
+        return chiSquared;
+    }
+}
@@ -0,0 +1,189 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.game.models.Board;
+import com.comp2042.game.models.BoardType;
+import com.comp2042.logic.rotation.RotationSystem;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RandomizerTest {
+
+    private static final int SEQUENCE_LENGTH = 10_000;
+    // Chi-squared value with 6 degrees of freedom that is exceeded by chance 0.1% of the time
+    private static final double CHI_SQUARED_LIMIT = 22.458;
+
+    @Test
+    void sameSeedGivesSameSequence() {
+        for (RandomizerType type : RandomizerType.values()) {
+            AbstractBrickGenerator first = type.create(42);
+            AbstractBrickGenerator second = type.create(42);
+            assertEquals(42, first.getSeed());
+            for (int i = 0; i < SEQUENCE_LENGTH; i++) {
+                assertEquals(first.getBrick(), second.getBrick(), type + " brick " + i);
+            }
+        }
+    }
+
+    @Test
+    void differentSeedsGiveDifferentSequences() {
+        for (RandomizerType type : RandomizerType.values()) {
+            AbstractBrickGenerator first = type.create(1);
+            AbstractBrickGenerator second = type.create(2);
+            int same = 0;
+            for (int i = 0; i < SEQUENCE_LENGTH; i++) {
+                if (first.getBrick() == second.getBrick()) {
+                    same++;
+                }
+            }
+            assertNotEquals(SEQUENCE_LENGTH, same, type.toString());
+        }
+    }
+
+    @Test
+    void peekAgreesWithLaterBricks() {
+        for (RandomizerType type : RandomizerType.values()) {
+            AbstractBrickGenerator generator = type.create(7);
+            BrickType[] preview = new BrickType[AbstractBrickGenerator.MAX_PREVIEW];
+            for (int round = 0; round < 100; round++) {
+                // Look ahead a varying distance, then draw the bricks that were previewed
+                int depth = 1 + round % AbstractBrickGenerator.MAX_PREVIEW;
+                for (int n = 0; n < depth; n++) {
+                    preview[n] = generator.peek(n);
+                }
+                assertEquals(preview[0], generator.getNextBrick(), type.toString());
+                for (int n = 0; n < depth; n++) {
+                    assertEquals(preview[n], generator.getBrick(), type + " round " + round + " brick " + n);
+                }
+            }
+        }
+    }
+
+    @Test
+    void resetStartsTheSequenceOver() {
+        for (RandomizerType type : RandomizerType.values()) {
+            AbstractBrickGenerator generator = type.create(9);
+            // Leave bricks in the buffer and the generator part way through a bag and its history
+            for (int i = 0; i < 40; i++) {
+                generator.getBrick();
+            }
+            generator.peek(AbstractBrickGenerator.MAX_PREVIEW - 1);
+
+            generator.reset();
+            AbstractBrickGenerator fresh = type.create(9);
+            for (int i = 0; i < 200; i++) {
+                assertEquals(fresh.getBrick(), generator.getBrick(), type + " brick " + i);
+            }
+        }
+    }
+
+    @Test
+    void newGameDealsTheSameBricksAgain() {
+        for (BoardType boardType : BoardType.values()) {
+            Board board = boardType.createBoard(BoardType.ROWS, BoardType.COLUMNS, RotationSystem.SRS,
+                                                RandomizerType.BAG7.create(21));
+            board.newGame();
+            BrickType[] first = dealt(board, 30);
+            board.newGame();
+            assertArrayEquals(first, dealt(board, 30), boardType.toString());
+        }
+    }
+
+    @Test
+    void peekRejectsDistancesOutsideTheBuffer() {
+        AbstractBrickGenerator generator = RandomizerType.BAG7.create(0);
+        assertThrows(IllegalArgumentException.class, () -> generator.peek(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.peek(AbstractBrickGenerator.MAX_PREVIEW));
+    }
+
+    @Test
+    void everyBagHoldsEachBrickTheRightNumberOfTimes() {
+        assertBags(RandomizerType.BAG7, 1);
+        assertBags(RandomizerType.BAG14, 2);
+    }
+
+    @Test
+    void randomAndHistoryGeneratorsAreUniform() {
+        assertUniform(RandomizerType.UNIFORM);
+        assertUniform(RandomizerType.HISTORY);
+    }
+
+    @Test
+    void historyGeneratorAvoidsRecentBricks() {
+        for (long seed = 0; seed < 50; seed++) {
+            BrickType first = RandomizerType.HISTORY.create(seed).getBrick();
+            assertTrue(first != BrickType.S && first != BrickType.Z && first != BrickType.O,
+                       "First brick " + first + " with seed " + seed);
+        }
+
+        // A memoryless source repeats the previous brick 1 time in 7, the history makes it rare
+        AbstractBrickGenerator generator = RandomizerType.HISTORY.create(3);
+        BrickType previous = generator.getBrick();
+        int repeats = 0;
+        for (int i = 1; i < SEQUENCE_LENGTH; i++) {
+            BrickType brick = generator.getBrick();
+            if (brick == previous) {
+                repeats++;
+            }
+            previous = brick;
+        }
+        assertTrue(repeats < SEQUENCE_LENGTH / 35, repeats + " immediate repeats");
+    }
+
+    /**
+     * Hard drops the given number of bricks, recording the type of each.
+     */
+    private static BrickType[] dealt(Board board, int count) {
+        BrickType[] bricks = new BrickType[count];
+        for (int i = 0; i < count; i++) {
+            bricks[i] = brickType(board);
+            board.hardDrop();
+            board.landBrickAndClearRows();
+            board.createNewBrick();
+        }
+        return bricks;
+    }
+
+    private static BrickType brickType(Board board) {
+        for (BrickType type : BrickType.values()) {
+            if (RotationSystem.SRS.getShapeTable(type) == board.getViewData().getBrickShapes()) {
+                return type;
+            }
+        }
+        throw new IllegalStateException("Unknown brick shape");
+    }
+
+    private static void assertBags(RandomizerType type, int copies) {
+        int bagSize = BrickType.count() * copies;
+        AbstractBrickGenerator generator = type.create(11);
+        for (int bag = 0; bag < SEQUENCE_LENGTH / bagSize; bag++) {
+            int[] counts = new int[BrickType.count()];
+            for (int i = 0; i < bagSize; i++) {
+                counts[generator.getBrick().ordinal()]++;
+            }
+            for (BrickType brick : BrickType.values()) {
+                assertEquals(copies, counts[brick.ordinal()], type + " bag " + bag + " " + brick);
+            }
+        }
+    }
+
+    private static void assertUniform(RandomizerType type) {
+        int draws = SEQUENCE_LENGTH * BrickType.count();
+        int[] counts = new int[BrickType.count()];
+        AbstractBrickGenerator generator = type.create(5);
+        for (int i = 0; i < draws; i++) {
+            counts[generator.getBrick().ordinal()]++;
+        }
+        double expected = (double) draws / BrickType.count();
+        double chiSquared = 0;
+        for (int count : counts) {
+            chiSquared += (count - expected) * (count - expected) / expected;
+        }
+        assertTrue(chiSquared < CHI_SQUARED_LIMIT, type + " chi-squared " + chiSquared);
+    }
+}
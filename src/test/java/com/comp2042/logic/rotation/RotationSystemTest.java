@@ -0,0 +1,236 @@
+package com.comp2042.logic.rotation;
+
+import com.comp2042.game.models.BoardType;
+import com.comp2042.game.models.SimpleBoard;
+import com.comp2042.game.models.ViewData;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.bricks.ShapeTable;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Rotates real bricks on a {@link SimpleBoard} and checks where they end up.
+ * Obstacles are written straight into the board matrix, which is all rotation reads.
+ */
+class RotationSystemTest {
+
+    // Rows the brick is moved down before rotating, leaving room for kicks upwards
+    private static final int DROP_ROWS = 8;
+
+    // Kicks in board coordinates (y pointing down) as listed in the SRS+ 180 degree table
+    private static final int[] HALF_TURN_FROM_0 = {0, 0, 0, -1, 1, -1, -1, -1, 1, 0, -1, 0};
+    private static final int[] HALF_TURN_FROM_1 = {0, 0, 1, 0, 1, -2, 1, -1, 0, -2, 0, -1};
+    private static final int[] HALF_TURN_FROM_2 = {0, 0, 0, 1, -1, 1, 1, 1, -1, 0, 1, 0};
+    private static final int[] HALF_TURN_FROM_3 = {0, 0, -1, 0, -1, -2, -1, -1, 0, -2, 0, -1};
+    private static final int[] CLASSIC_KICKS = {0, 0, -1, 0, 1, 0, -2, 0, 2, 0};
+
+    @Test
+    void tAgainstTheLeftWallTakesTheJlstzKick() {
+        SimpleBoard board = newBoard(RotationSystem.SRS, BrickType.T);
+        assertTrue(board.rotateBrick(RotationDirection.CLOCKWISE));
+        while (board.moveBrickLeft()) {
+            // Slide against the wall
+        }
+        ViewData before = board.getViewData();
+        assertEquals(-1, before.getxPosition());
+        int y = before.getyPosition();
+        // Blocks the first kick to the right, so the brick has to go one right and one down
+        board.getBoardMatrix()[y + 1][2] = 1;
+
+        assertTrue(board.rotateBrick(RotationDirection.CLOCKWISE));
+        assertPosition(board, 2, 0, y + 1);
+    }
+
+    @Test
+    void iTakesItsOwnKickTable() {
+        SimpleBoard board = newBoard(RotationSystem.SRS, BrickType.I);
+        assertTrue(board.rotateBrick(RotationDirection.CLOCKWISE));
+        while (board.moveBrickLeft()) {
+            // Slide against the wall
+        }
+        ViewData before = board.getViewData();
+        assertEquals(-2, before.getxPosition());
+
+        // The I kicks two columns right where the JLSTZ table would give up
+        assertTrue(board.rotateBrick(RotationDirection.CLOCKWISE));
+        assertPosition(board, 2, 0, before.getyPosition());
+    }
+
+    @Test
+    void halfTurnsTryTheSrsPlusKicksInOrder() {
+        for (BrickType type : BrickType.values()) {
+            if (type == BrickType.O) {
+                continue;
+            }
+            assertKicksTriedInOrder(RotationSystem.SRS, type, 0, RotationDirection.HALF_TURN, 2, HALF_TURN_FROM_0);
+            assertKicksTriedInOrder(RotationSystem.SRS, type, 1, RotationDirection.HALF_TURN, 3, HALF_TURN_FROM_1);
+            assertKicksTriedInOrder(RotationSystem.SRS, type, 2, RotationDirection.HALF_TURN, 0, HALF_TURN_FROM_2);
+            assertKicksTriedInOrder(RotationSystem.SRS, type, 3, RotationDirection.HALF_TURN, 1, HALF_TURN_FROM_3);
+        }
+    }
+
+    @Test
+    void classicTriesTheOriginalHorizontalKicksInOrder() {
+        assertKicksTriedInOrder(RotationSystem.CLASSIC, BrickType.T, 0, RotationDirection.COUNTER_CLOCKWISE, 1,
+                                CLASSIC_KICKS);
+        assertKicksTriedInOrder(RotationSystem.CLASSIC, BrickType.T, 0, RotationDirection.CLOCKWISE, 3,
+                                CLASSIC_KICKS);
+        assertKicksTriedInOrder(RotationSystem.CLASSIC, BrickType.L, 2, RotationDirection.COUNTER_CLOCKWISE, 3,
+                                CLASSIC_KICKS);
+    }
+
+    @Test
+    void rotationWithNoFreeKickLeavesTheBrickInPlace() {
+        for (RotationSystem system : RotationSystem.values()) {
+            for (RotationDirection direction : RotationDirection.values()) {
+                SimpleBoard board = newDroppedBoard(system, BrickType.T, 0);
+                ViewData before = board.getViewData();
+                int transition = system.getTransition(BrickType.T, 0, direction);
+                for (int kick = system.getKickStart(transition); kick < system.getKickEnd(transition); kick++) {
+                    block(board, system.getShapeTable(BrickType.T), system.getTargetRotation(transition),
+                          before.getxPosition() + system.getKickX(kick),
+                          before.getyPosition() + system.getKickY(kick));
+                }
+
+                assertFalse(board.rotateBrick(direction), system + " " + direction);
+                assertPosition(board, 0, before.getxPosition(), before.getyPosition());
+            }
+        }
+    }
+
+    /**
+     * For each expected kick, blocks every earlier kick and checks that the rotation lands on the first
+     * kick of the list that is still free. An earlier kick stays free when the expected kick and the
+     * brick itself cover its cells, as then the expected kick can never be reached with this brick.
+     *
+     * @param kicks Alternating dx, dy pairs in board coordinates
+     */
+    private static void assertKicksTriedInOrder(RotationSystem system, BrickType type, int from,
+                                                RotationDirection direction, int to, int[] kicks) {
+        String name = system + " " + type + " " + from + " " + direction;
+        ShapeTable shapes = system.getShapeTable(type);
+        int reached = 0;
+        for (int k = 0; k < kicks.length / 2; k++) {
+            SimpleBoard board = newDroppedBoard(system, type, from);
+            int x = board.getViewData().getxPosition();
+            int y = board.getViewData().getyPosition();
+            int[][] matrix = board.getBoardMatrix();
+            for (int earlier = 0; earlier < k; earlier++) {
+                block(board, shapes, to, x + kicks[2 * earlier], y + kicks[2 * earlier + 1]);
+            }
+            // Free the cells of the expected kick and of the brick itself again
+            fill(matrix, shapes, to, x + kicks[2 * k], y + kicks[2 * k + 1], 0);
+            fill(matrix, shapes, from, x, y, 0);
+            int expected = 0;
+            while (overlaps(matrix, shapes, to, x + kicks[2 * expected], y + kicks[2 * expected + 1])) {
+                expected++;
+            }
+            if (expected == k) {
+                reached++;
+            }
+
+            assertTrue(board.rotateBrick(direction), name + " kick " + k);
+            assertPosition(board, to, x + kicks[2 * expected], y + kicks[2 * expected + 1]);
+        }
+        assertTrue(reached > 1, name + ": only " + reached + " kicks could be reached");
+    }
+
+    private static SimpleBoard newBoard(RotationSystem system, BrickType type) {
+        SimpleBoard board = new SimpleBoard(BoardType.ROWS, BoardType.COLUMNS, system, new FixedBrickGenerator(type));
+        board.createNewBrick();
+        return board;
+    }
+
+    /**
+     * Creates a board whose brick sits in open space a few rows down, turned to the given rotation.
+     */
+    private static SimpleBoard newDroppedBoard(RotationSystem system, BrickType type, int rotation) {
+        SimpleBoard board = newBoard(system, type);
+        for (int i = 0; i < DROP_ROWS; i++) {
+            assertTrue(board.moveBrickDown());
+        }
+        int x = board.getViewData().getxPosition();
+        int y = board.getViewData().getyPosition();
+        while (board.getViewData().getRotation() != rotation) {
+            assertTrue(board.rotateBrick(RotationDirection.CLOCKWISE));
+        }
+        assertEquals(x, board.getViewData().getxPosition());
+        assertEquals(y, board.getViewData().getyPosition());
+        return board;
+    }
+
+    private static void block(SimpleBoard board, ShapeTable shapes, int rotation, int x, int y) {
+        fill(board.getBoardMatrix(), shapes, rotation, x, y, 9);
+    }
+
+    private static void fill(int[][] matrix, ShapeTable shapes, int rotation, int x, int y, int value) {
+        int[][] shape = shapes.getShape(rotation);
+        for (int row = 0; row < shape.length; row++) {
+            for (int col = 0; col < shape[row].length; col++) {
+                if (shape[row][col] != 0 && inside(matrix, x + col, y + row)) {
+                    matrix[y + row][x + col] = value;
+                }
+            }
+        }
+    }
+
+    private static boolean overlaps(int[][] matrix, ShapeTable shapes, int rotation, int x, int y) {
+        int[][] shape = shapes.getShape(rotation);
+        for (int row = 0; row < shape.length; row++) {
+            for (int col = 0; col < shape[row].length; col++) {
+                if (shape[row][col] != 0 && (!inside(matrix, x + col, y + row) || matrix[y + row][x + col] != 0)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean inside(int[][] matrix, int x, int y) {
+        return y >= 0 && y < matrix.length && x >= 0 && x < matrix[y].length;
+    }
+
+    private static void assertPosition(SimpleBoard board, int rotation, int x, int y) {
+        ViewData view = board.getViewData();
+        assertEquals(rotation, view.getRotation(), "rotation");
+        assertEquals(x, view.getxPosition(), "x");
+        assertEquals(y, view.getyPosition(), "y");
+    }
+
+    /**
+     * Deals the same brick over and over.
+     */
+    private static final class FixedBrickGenerator implements BrickGenerator {
+
+        private final BrickType type;
+
+        FixedBrickGenerator(BrickType type) {
+            this.type = type;
+        }
+
+        @Override
+        public BrickType getBrick() {
+            return type;
+        }
+
+        @Override
+        public BrickType getNextBrick() {
+            return type;
+        }
+
+        @Override
+        public BrickType peek(int n) {
+            return type;
+        }
+
+        @Override
+        public void reset() {
+            // Always the same brick
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.comp2042.ui.renderers;
+
+import java.util.Arrays;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Times updating and drawing 10,000 live particles per frame, which has to stay
+ * well inside a 60 Hz frame. The system gets a budget large enough to hold them all.
+ * The canvas is never shown, so this times recording the draw calls, not putting
+ * them on screen. Wall-clock limits depend on the machine, so this only runs in the
+ * {@code benchmark} profile of the pom.
+ */
+@Tag("benchmark")
+class ParticleSystemBenchmarkTest {
+
+    private static final int PARTICLES = 10_000;
+    private static final int WARM_UP_FRAMES = 300;
+    private static final int MEASURED_FRAMES = 600;
+    private static final long FRAME_NANOS = 16_666_667L;
+    private static final double LIMIT_MILLIS = 2;
+
+    @Test
+    void tenThousandParticlesUpdateAndDrawInUnderTwoMilliseconds() {
+        ParticleSystem particles = new ParticleSystem(209, 482, PARTICLES);
+        long[] frameNanos = new long[MEASURED_FRAMES];
+        long now = 0;
+        for (int frame = 0; frame < WARM_UP_FRAMES + MEASURED_FRAMES; frame++) {
+            // Keep the system full, a new canvas drops the commands recorded so far
+            particles.emit(0, 0, 209, 482, PARTICLES - particles.getCount(), 260, false, 1 + frame % 7);
+            GraphicsContext gc = new Canvas(209, 482).getGraphicsContext2D();
+            assertEquals(PARTICLES, particles.getCount());
+
+            now += FRAME_NANOS;
+            long start = System.nanoTime();
+            particles.update(now);
+            particles.draw(gc);
+            long elapsed = System.nanoTime() - start;
+            if (frame >= WARM_UP_FRAMES) {
+                frameNanos[frame - WARM_UP_FRAMES] = elapsed;
+            }
+        }
+
+        Arrays.sort(frameNanos);
+        double medianMillis = frameNanos[MEASURED_FRAMES / 2] / 1e6;
+        assertTrue(medianMillis < LIMIT_MILLIS, "Median frame took " + medianMillis + " ms");
+    }
+}
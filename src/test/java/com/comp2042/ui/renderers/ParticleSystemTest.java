@@ -0,0 +1,15 @@
+package com.comp2042.ui.renderers;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ParticleSystemTest {
+
+    @Test
+    void emittingBeyondTheBudgetDropsNewParticles() {
+        ParticleSystem particles = new ParticleSystem(100, 100, 50);
+        particles.emit(0, 0, 100, 100, 80, 100, false, 0);
+        assertEquals(50, particles.getCount());
+    }
+}